@@ -1,10 +1,34 @@
 package control;
 
 import model.Ebook;
+import util.CatalogListener;
 import util.EbookTreeStream;
+import util.FileWatcher;
+import util.Journal;
+import util.KeyedTree;
+import util.PrefixIndex;
+import util.RangeIndex;
+import util.ResultCache;
+import util.ResultWriter;
+import util.SecondaryIndex;
 import util.StringStream;
-import util.Node;
+import util.TitleIndex;
+import util.Tree;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import view.Screen;
 
 /**
@@ -12,15 +36,96 @@ import view.Screen;
  * @author Everton Bruno Silva dos Santos
  */
 public class Application {
+    private static final int RESULT_QUEUE_CAPACITY = 64;
+    private static final int RESULT_CACHE_CAPACITY = 256;
+    private static final int TITLE_RESULT_LIMIT = 20;
+    private static final int COMPLETION_LIMIT = 10;
     private final EbookTreeStream ebookTreeStream;
+    private final ResultWriter resultWriter;
+    private final ResultCache<String, Object[]> resultCache;
+    private final SecondaryIndex<String> authorIndex;
+    private final RangeIndex<Integer> yearIndex;
+    private final TitleIndex titleIndex;
+    private final PrefixIndex authorCompletions;
+    private final PrefixIndex titleCompletions;
     private final String searchResults;
+    private final int journalBatchSize;
+    private final boolean journalForce;
+    private Path baseFile;
+    private Journal journal;
+    private boolean mapped;
+    private FileWatcher watcher;
+    private volatile boolean reloadPending;
+    private FileTime baseModified;
+    private long baseSize;
+    private Object baseKey;
 
     /**
      * Construtor responsável por inicializar a classe, bem como, inicializar a estrutura capaz de comportar-se como uma árvore AVL.
      * Ademais, este construtor atua criando o diretório onde serão destinados os resultados de busca.
      */
     public Application() {
-        ebookTreeStream = new EbookTreeStream();                    //ESTRUTURA CAPAZ DE COMPORTAR-SE COMO UMA ÁRVORE AVL.
+        this(new Tree<>());
+    }
+
+    /**
+     * Construtor responsável por inicializar a classe utilizando determinada árvore para armazenar os ebooks.
+     * Ademais, este construtor atua criando o diretório onde serão destinados os resultados de busca.
+     * Com uma PersistentTree, as buscas podem ser feitas por várias threads simultaneamente às alterações.
+     * @param tree Refere-se a árvore que irá armazenar os ebooks (por exemplo, Tree, ArrayTree ou PersistentTree).
+     */
+    public Application(final KeyedTree<Ebook> tree) {
+        this(tree, 1, true);
+    }
+
+    /**
+     * Construtor responsável por inicializar a classe utilizando determinada árvore e determinada configuração
+     * do diário de alterações. Cada alteração só é considerada preservada após a gravação de seu lote.
+     * @param tree              Refere-se a árvore que irá armazenar os ebooks.
+     * @param journalBatchSize  Refere-se a quantidade de alterações acumuladas antes de cada gravação no diário.
+     * @param journalForce      Refere-se ao indicador de que cada lote do diário deve ser forçado para o disco.
+     */
+    public Application(final KeyedTree<Ebook> tree, final int journalBatchSize, final boolean journalForce) {
+        this.journalBatchSize = journalBatchSize;
+        this.journalForce = journalForce;
+        this.baseFile = null;
+        this.journal = null;
+        this.mapped = false;
+        this.watcher = null;
+        this.reloadPending = false;
+        this.baseModified = null;
+        this.baseSize = -1;
+        this.baseKey = null;
+        ebookTreeStream = new EbookTreeStream(tree);                //ESTRUTURA CAPAZ DE COMPORTAR-SE COMO UMA ÁRVORE AVL.
+        resultWriter = new ResultWriter(RESULT_QUEUE_CAPACITY);     //GRAVA OS RESULTADOS DE BUSCA SEM BLOQUEAR AS BUSCAS
+        resultCache = new ResultCache<>(RESULT_CACHE_CAPACITY);
+        authorIndex = new SecondaryIndex<>(Ebook::getAuthor, ConcurrentHashMap::new);
+        yearIndex = new RangeIndex<>(Ebook::getYear);
+        titleIndex = new TitleIndex();
+        authorCompletions = new PrefixIndex(Ebook::getAuthor, COMPLETION_LIMIT);
+        titleCompletions = new PrefixIndex(Ebook::getTitle, COMPLETION_LIMIT);
+        ebookTreeStream.addCatalogListener(authorIndex);            //OS ÍNDICES SÃO ATUALIZADOS ANTES DE INVALIDAR A CACHE
+        ebookTreeStream.addCatalogListener(yearIndex);
+        ebookTreeStream.addCatalogListener(titleIndex);
+        ebookTreeStream.addCatalogListener(authorCompletions);
+        ebookTreeStream.addCatalogListener(titleCompletions);
+        ebookTreeStream.addCatalogListener(new CatalogListener() {  //DESCARTA APENAS AS BUSCAS AFETADAS POR CADA ALTERAÇÃO
+            @Override
+            public void inserted(final Ebook ebook) {
+                resultCache.invalidate(authorKey(ebook.getAuthor()));
+                resultCache.invalidate(yearKey(ebook.getYear()));
+            }
+
+            @Override
+            public void removed(final Ebook ebook) {
+                this.inserted(ebook);
+            }
+
+            @Override
+            public void loaded(final KeyedTree<Ebook> catalog) {
+                resultCache.clear();
+            }
+        });
         final String osName = System.getProperty("os.name");        //CAPTURA O NOME DO SISTEMA OPERACIONAL
         if (osName.equals("Linux") || osName.equals("Mac OS X")) {  //VERIFICA SE É LINUX OU MAC
             searchResults = "SearchResults/";                       //USA ESTRUTURA DE DIRETÓRIOS DO LINUX E MAC
@@ -43,52 +148,321 @@ public class Application {
      * @return Retorna valor boleano.
      */
     public boolean treeIsEmpty() {
+        this.applyPendingReload();
         return ebookTreeStream.isEmpty();
     }
 
     /**
-     * Método responsável por registrar um novo livro no sistema.
+     * Método responsável por registrar um novo livro no sistema. As alterações são serializadas entre si,
+     * de modo que livros registrados simultaneamente nunca recebem o mesmo número.
      * @param title     Refere-se ao nome do livro.
      * @param author    Refere-se ao autor do livro.
      * @param month     Refere-se ao mês de publicação do livro.
      * @param year      Refere-se ao ano de publicação do livro.
      * @param url       Refere-se ao URL onde encontra-se disponível o livro.
      */
-    public void registerBook(final String title, final String author, final String month, final int year,
+    public synchronized void registerBook(final String title, final String author, final String month, final int year,
             final String url) {
+        this.applyPendingReload();
         final int newKey = ebookTreeStream.highestKey() + 1;
-        ebookTreeStream.insert(newKey, new Ebook(newKey, title, author, month, year, url));
+        final Ebook ebook = new Ebook(newKey, title, author, month, year, url);
+        ebookTreeStream.insert(newKey, ebook);
+        if (journal != null) {                  //REGISTRA A INSERÇÃO NO DIÁRIO DO ARQUIVO CARREGADO
+            try {
+                journal.insert(ebook);
+            } catch (final IOException exception) {
+                this.journalFailure();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por carregar arquivos na estrutura principal do sistema (uma árvore AVL). Após a
+     * leitura, as alterações registradas no diário do arquivo são reaplicadas, e as próximas alterações
+     * passam a ser registradas nele. O arquivo passa a ser observado, e suas alterações externas são
+     * incorporadas antes da próxima operação (vide reloadFromFile).
+     * @param fileName  Refere-se ao nome do arquivo.
+     * @return          Retorna valor boleano que indica se a operação foi bem sucedida ou não.
+     */
+    public synchronized boolean loadFromFile(final String fileName) {
+        return this.load(fileName, false);
     }
 
     /**
-     * Método responsável por carregar arquivos na estrutura principal do sistema (uma árvore AVL).
+     * Método responsável por carregar arquivos em modo mapeado, no qual o arquivo permanece mapeado em memória e
+     * os dados de cada livro só são decodificados quando consultados, de modo que a memória ocupada depende apenas
+     * da quantidade de livros. As alterações registradas no diário do arquivo são reaplicadas, tal como em loadFromFile.
+     * O arquivo deve ser substituído por renomeação, e não alterado no mesmo local (vide reloadFromFile).
+     * Os índices de títulos e de autores não são construídos nesse modo (vide load).
      * @param fileName  Refere-se ao nome do arquivo.
      * @return          Retorna valor boleano que indica se a operação foi bem sucedida ou não.
      */
-    public boolean loadFromFile(final String fileName) {
+    public synchronized boolean mapFromFile(final String fileName) {
+        return this.load(fileName, true);
+    }
+
+    /**
+     * Método responsável por carregar determinado arquivo e reaplicar seu diário.
+     * Em modo mapeado, os índices de títulos e de autores (e suas sugestões) são desativados, pois guardariam em
+     * memória cada palavra dos títulos e cada autor, decodificando todo o arquivo na carga: a carga apenas constrói
+     * o índice de posições do arquivo e a memória ocupada continua proporcional a quantidade de livros. As buscas
+     * por título e por autor percorrem então o catálogo e as sugestões ficam indisponíveis.
+     * @param fileName  Refere-se ao nome do arquivo.
+     * @param mapped    Refere-se ao indicador de que o arquivo deve ser carregado em modo mapeado.
+     * @return          Retorna valor boleano que indica se a operação foi bem sucedida ou não.
+     */
+    private boolean load(final String fileName, final boolean mapped) {
         System.out.println("Carregando arquivo, aguarde...");
-        return ebookTreeStream.loadFromFile(fileName);
+        this.stopWatching();
+        this.closeJournal();
+        baseFile = null;
+        this.mapped = mapped;
+        titleIndex.setEnabled(!mapped);         //OS TEXTOS EM MEMÓRIA ANULARIAM A ECONOMIA DO MODO MAPEADO
+        authorIndex.setEnabled(!mapped);
+        authorCompletions.setEnabled(!mapped);
+        titleCompletions.setEnabled(!mapped);
+        final boolean loaded = mapped ? ebookTreeStream.mapFromFile(fileName)
+                : ebookTreeStream.loadFromFile(fileName, Runtime.getRuntime().availableProcessors()); //ARQUIVOS GRANDES SÃO CONVERTIDOS EM TRECHOS PARALELOS
+        if (!loaded) {
+            return false;
+        }
+        this.openJournal(fileName, false);      //REAPLICA AS ALTERAÇÕES FEITAS DESDE A ÚLTIMA GRAVAÇÃO COMPLETA
+        this.watchBaseFile();
+        return true;
+    }
+
+    /**
+     * Método responsável por incorporar as alterações externas do arquivo carregado. O arquivo é lido novamente
+     * e comparado, livro a livro, com os dados do sistema, de modo que apenas os livros inseridos, removidos ou
+     * modificados no arquivo são alterados na estrutura principal; as alterações registradas no diário são
+     * reaplicadas sobre o novo conteúdo do arquivo. Nada é feito caso o arquivo não tenha sido modificado desde
+     * a última carga, gravação ou recarga.
+     * Em modo mapeado, a comparação só é possível quando o arquivo foi substituído por outro (por renomeação,
+     * tal como em AtomicFileWriter), pois o mapeamento anterior continua apontando para o conteúdo antigo.
+     * Caso o arquivo mapeado tenha sido alterado no mesmo local, os livros atuais já refletem (parcialmente) o
+     * novo conteúdo, ou nem podem mais ser lidos caso o arquivo tenha diminuído; nesse caso, a estrutura principal
+     * é substituída por completo, sem consultar os livros atuais, e os índices são reconstruídos. Uma alteração no
+     * mesmo local feita durante uma operação ainda pode interrompê-la, razão pela qual arquivos mapeados devem
+     * ser substituídos por renomeação.
+     * @return Retorna quantidade de livros alterados (ou, na substituição completa, a quantidade de livros do
+     *         arquivo) ou -1 caso não haja arquivo carregado ou sua leitura falhe.
+     */
+    public synchronized int reloadFromFile() {
+        reloadPending = false;
+        if (baseFile == null) {
+            return -1;
+        }
+        final BasicFileAttributes attributes = this.baseAttributes();
+        if (attributes == null) {
+            return -1;
+        } else if (attributes.lastModifiedTime().equals(baseModified) && attributes.size() == baseSize) {
+            return 0;                           //O ARQUIVO NÃO FOI MODIFICADO
+        }
+        System.out.println("Recarregando arquivo, aguarde...");
+        final KeyedTree<Ebook> catalog = ebookTreeStream.readFromFile(baseFile.toString(),
+                Runtime.getRuntime().availableProcessors(), mapped);
+        if (catalog == null) {                  //O ARQUIVO PODE ESTAR SENDO GRAVADO; OS DADOS ATUAIS SÃO MANTIDOS
+            return -1;
+        }
+        if (journal != null) {                  //AS ALTERAÇÕES DO DIÁRIO CONTINUAM VALENDO SOBRE O NOVO CONTEÚDO
+            try {
+                journal.flush();
+                journal.replay(catalog);
+            } catch (final IOException exception) {
+                this.journalFailure();
+            }
+        }
+        baseModified = attributes.lastModifiedTime();
+        baseSize = attributes.size();
+        final boolean replaced = attributes.fileKey() != null && !attributes.fileKey().equals(baseKey);
+        baseKey = attributes.fileKey();
+        if (mapped && !replaced) {              //O ARQUIVO MAPEADO FOI ALTERADO NO MESMO LOCAL
+            final List<Ebook> ebooks = new ArrayList<>(catalog.size());
+            catalog.forEach(ebooks::add);
+            ebookTreeStream.bulkLoad(ebooks, Ebook::getNumber);
+            return ebooks.size();
+        }
+        return ebookTreeStream.synchronize(catalog);
     }
 
     /**
      * Método responsável por salvar em arquivos os dados contidos na estrutura principal do sistema (uma árvore AVL).
+     * Caso o arquivo seja o mesmo que foi carregado (ou nenhum arquivo tenha sido carregado), ele passa a conter
+     * todas as alterações e seu diário é esvaziado; caso contrário, o diário do arquivo carregado é mantido.
      * @param fileName  Refere-se ao nome do arquivo.
      * @return          Retorna valor boleano que indica se a operação foi bem sucedida ou não.
      */
-    public boolean saveFromFile(final String fileName) {
+    public synchronized boolean saveFromFile(final String fileName) {
+        this.applyPendingReload();
         System.out.println("Gravando arquivo, aguarde...");
-        return ebookTreeStream.saveFromFile(fileName);
+        if (!ebookTreeStream.saveFromFile(fileName)) {
+            return false;
+        }
+        final double megabytes = ebookTreeStream.getSavedBytes() / 1048576.0;
+        final double seconds = ebookTreeStream.getSaveNanos() / 1e9;
+        System.out.println(String.format("%d registros gravados (%.1f MB em %.2f s, %.1f MB/s).",
+                ebookTreeStream.getSavedRecords(), megabytes, seconds, seconds > 0 ? megabytes / seconds : 0.0));
+        if (baseFile == null || baseFile.equals(Paths.get(fileName).toAbsolutePath().normalize())) {
+            this.closeJournal();
+            this.openJournal(fileName, true);   //O ARQUIVO GRAVADO JÁ CONTÉM AS ALTERAÇÕES DO DIÁRIO
+            this.watchBaseFile();
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por incorporar ao arquivo carregado todas as alterações registradas em seu diário,
+     * regravando o arquivo por completo e esvaziando o diário.
+     * @return Retorna valor boleano que indica se a operação foi bem sucedida ou não.
+     */
+    public synchronized boolean compact() {
+        return baseFile != null && this.saveFromFile(baseFile.toString());
+    }
+
+    /**
+     * Método responsável por gravar as alterações pendentes no diário e fechá-lo, bem como aguardar a gravação
+     * dos resultados de busca pendentes. Deve ser chamado ao finalizar a aplicação.
+     */
+    public synchronized void close() {
+        this.stopWatching();
+        resultWriter.close();
+        this.closeJournal();
+        baseFile = null;
+    }
+
+    /**
+     * Método responsável por abrir o diário de determinado arquivo, que passa a ser o arquivo base das
+     * próximas alterações.
+     * @param fileName  Refere-se ao nome do arquivo base.
+     * @param reset     Refere-se ao indicador de que o diário deve ser esvaziado em vez de reaplicado.
+     */
+    private void openJournal(final String fileName, final boolean reset) {
+        baseFile = Paths.get(fileName).toAbsolutePath().normalize();
+        try {
+            journal = new Journal(fileName + Journal.EXTENSION, journalBatchSize, journalForce);
+            if (reset) {
+                journal.reset();
+            } else {
+                journal.replay(ebookTreeStream);
+            }
+        } catch (final IOException exception) {
+            this.journalFailure();
+        }
+    }
+
+    /**
+     * Método responsável por registrar o estado atual do arquivo base e, caso ainda não esteja sendo observado,
+     * iniciar sua observação. Cada alteração do arquivo apenas agenda sua recarga, que é feita no início da
+     * próxima operação, evitando que os dados mudem durante uma listagem.
+     */
+    private void watchBaseFile() {
+        final BasicFileAttributes attributes = this.baseAttributes();
+        baseModified = attributes == null ? null : attributes.lastModifiedTime();
+        baseSize = attributes == null ? -1 : attributes.size();
+        baseKey = attributes == null ? null : attributes.fileKey();
+        if (watcher == null) {
+            try {
+                watcher = new FileWatcher(baseFile, () -> reloadPending = true);
+            } catch (final IOException exception) {
+                final Screen screen = new Screen();
+                screen.showMessage("Aviso! Não será possível detectar alterações externas no arquivo carregado.");
+            }
+        }
+    }
+
+    /**
+     * Método responsável por encerrar a observação do arquivo base, caso esteja ativa.
+     */
+    private void stopWatching() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (final IOException exception) {
+                //A OBSERVAÇÃO JÁ FOI ENCERRADA
+            }
+            watcher = null;
+        }
+        reloadPending = false;
+    }
+
+    /**
+     * Método responsável por recarregar o arquivo base caso uma alteração tenha sido detectada.
+     */
+    private void applyPendingReload() {
+        if (reloadPending) {
+            this.reloadFromFile();
+        }
+    }
+
+    /**
+     * Método responsável por ler os atributos do arquivo base.
+     * @return Retorna atributos do arquivo ou nulo caso não seja possível lê-los.
+     */
+    private BasicFileAttributes baseAttributes() {
+        try {
+            return Files.readAttributes(baseFile, BasicFileAttributes.class);
+        } catch (final IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Método responsável por gravar as alterações pendentes no diário e fechá-lo, caso esteja aberto.
+     */
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (final IOException exception) {
+                final Screen screen = new Screen();
+                screen.showMessage("Aviso! Não foi possível gravar as últimas alterações no diário.");
+            }
+            journal = null;
+        }
     }
 
     /**
-     * Método responsável por listar todos os autores juntamente com a quantidade de obras catalogadas.
-     * @return  Retorna lista contendo os dados da listagem feita na árvore AVL.
+     * Método responsável por desativar o diário após uma falha, avisando que as alterações seguintes só
+     * serão preservadas ao gravar o arquivo.
+     */
+    private void journalFailure() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (final IOException exception) {
+                //O DIÁRIO JÁ ESTÁ EM FALHA
+            }
+            journal = null;
+        }
+        final Screen screen = new Screen();
+        screen.showMessage("Aviso! Não foi possível registrar as alterações no diário. Elas só serão preservadas ao gravar o arquivo.");
+    }
+
+    /**
+     * Método responsável por listar todos os autores juntamente com a quantidade de obras catalogadas de cada um,
+     * na ordem em que aparecem no catálogo. A listagem é obtida do índice de autores, sem percorrer a árvore AVL
+     * (exceto em modo mapeado, no qual o índice não é construído).
+     * @return  Retorna lista contendo os dados da listagem.
      */
     public StringStream catalogedWorksAndListAuthors() {
+        this.applyPendingReload();
         System.out.println("Carregando, aguarde...");
         final StringStream stringStream = new StringStream();
         stringStream.add("----------------------------LISTA DE AUTORES---------------------------");
-        listAuthors(ebookTreeStream.getRoot(), stringStream);   //EFETUA LISTAGEM DE AUTORES EM UM MÉTODO AUXILIAR RECURSIVO.
+        if (authorIndex.isEnabled()) {
+            final List<Map.Entry<String, List<Ebook>>> authors = new ArrayList<>(authorIndex.size());
+            authorIndex.forEach((author, ebooks) -> authors.add(new AbstractMap.SimpleImmutableEntry<>(author, ebooks)));
+            authors.sort(Comparator.comparingInt((Map.Entry<String, List<Ebook>> author) -> author.getValue().get(0).getNumber()));  //ORDENA PELO PRIMEIRO LIVRO DE CADA AUTOR
+            for (final Map.Entry<String, List<Ebook>> author : authors) {
+                this.addAuthor(stringStream, author.getKey(), author.getValue().size());
+            }
+        } else {
+            final Map<String, Integer> authors = new LinkedHashMap<>();    //MANTÉM A ORDEM DO PRIMEIRO LIVRO DE CADA AUTOR
+            for (final Ebook ebook : ebookTreeStream) {
+                authors.merge(ebook.getAuthor(), 1, Integer::sum);
+            }
+            authors.forEach((author, count) -> this.addAuthor(stringStream, author, count));
+        }
         stringStream.add("----------------------------LISTA DE AUTORES---------------------------");
         stringStream.add("QUANTIDADE DE OBRAS CATALOGADAS: " + ebookTreeStream.size());
         if (stringStream.size() == 3) {                         //VERIFICA SE NA LISTA TEM ALGUM AUTOR
@@ -99,65 +473,66 @@ public class Application {
     }
 
     /**
-     * Método responsável por listar os nomes de todos os autores sem repetições.
-     * @param node          Refere-se ao nó raiz da árvore AVL.
-     * @param stringStream  Refere-se a lista que armazenará os dados a listagem.
+     * Método responsável por incluir determinado autor na listagem de autores.
+     * @param stringStream  Refere-se a lista onde será incluído o autor.
+     * @param author        Refere-se ao nome do autor.
+     * @param count         Refere-se a quantidade de obras do autor.
      */
-    private void listAuthors(final Node node, final StringStream stringStream) {
-        if (node != null) {
-            listAuthors(node.getSonOnTheLeft(), stringStream);                      //INICIA NOVA RECURSÃO À ESQUERDA
-            if (!stringStream.search(((Ebook) node.getElement()).getAuthor())) {    //VERIFICA SE O AUTOR DO NÓ ATUAL JÁ ESTÁ NA LISTA
-                stringStream.add(((Ebook) node.getElement()).getAuthor());          //NÃO ESTANDO, INSERE O AUTOR DO NÓ ATUAL
-            }
-            listAuthors(node.getSonOnTheRight(), stringStream);                     //INICIA NOVA RECURSÃO À DIREITA
-        }
+    private void addAuthor(final StringStream stringStream, final String author, final int count) {
+        stringStream.add(author + " (" + count + (count == 1 ? " obra)" : " obras)"));
     }
 
     /**
      * Método responsável por listar todas as obras de um dado autor.
+     * A lista retornada pertence ao chamador: o resultado armazenado e sua gravação em arquivo usam uma cópia.
      * @param author Refere-se ao nome do autor.
-     * @return       Retorna ao resultado do método contendo o resultado da listagem, bem como, da funcionalidade de salvar a listagem em arquivo.
+     * @return       Retorna ao resultado do método contendo o resultado da listagem, bem como, o resultado futuro (CompletableFuture) da funcionalidade de salvar a listagem em arquivo.
      */
     public Object[] searchEbookByAuthor(final String author) {
+        this.applyPendingReload();
+        final Object[] cached = this.cachedResult(authorKey(author), searchResults + author + ".txt");
+        if (cached != null) {                                           //BUSCA JÁ REALIZADA SEM ALTERAÇÕES DO AUTOR DESDE ENTÃO
+            return cached;
+        }
+        final long generation = resultCache.getGeneration();
         System.out.println("Carregando, aguarde...");
         final Object[] result = new Object[2];
         final StringStream stringStream = new StringStream();
         stringStream.add("----------------LIVROS DO AUTOR: [" + author + "]----------------");
-        searchEbookByAuthor(ebookTreeStream.getRoot(), author, stringStream);       //EFETUA LISTAGEM DE OBRAS DE UM DADO AUTOR EM MÉTODO AUXILIAR RECURSIVO
+        if (authorIndex.isEnabled()) {
+            for (final Ebook ebook : authorIndex.get(author)) {     //PERCORRE APENAS OS LIVROS DO AUTOR, JÁ EM ORDEM DE NÚMERO
+                stringStream.add(ebook.getTitle());
+            }
+        } else {
+            for (final Ebook ebook : ebookTreeStream) {             //EM MODO MAPEADO, PERCORRE O CATÁLOGO EM ORDEM DE NÚMERO
+                if (ebook.getAuthor().equals(author)) {
+                    stringStream.add(ebook.getTitle());
+                }
+            }
+        }
         stringStream.add("----------------LIVROS DO AUTOR: [" + author + "]----------------");
         if (stringStream.size() == 2) {     //VERIFICA SE NA LISTA TEM ALGUMA OBRA
             stringStream.clear();           //NÃO HAVENDO, LIMPA A LISTA
             stringStream.add("Listagem Indisponível! O autor " + author + " não tem obras catalogadas.");   //PÕEM DADOS QUE INDICAM QUE NÃO HÁ NADA NA LISTA
         }
-        result[0] = stringStream.saveFromFile(searchResults + author + ".txt");     //SALVA OS DADOS A LISTA EM ARQUIVO AO MESMO TEMPO QUE ARMAZENA O RESULTADO BOLEANO DA OPERAÇÃO
+        final StringStream saved = copyOf(stringStream);    //A CÓPIA GRAVADA E ARMAZENADA NÃO É ENTREGUE AO CHAMADOR
+        result[0] = resultWriter.submit(searchResults + author + ".txt", saved);   //AGENDA A GRAVAÇÃO DA LISTA EM ARQUIVO, ARMAZENANDO O RESULTADO FUTURO DA OPERAÇÃO
         result[1] = stringStream;                                                   //ARMAZENA A LISTA
+        resultCache.put(authorKey(author), new Object[]{result[0], saved}, generation);
         return result;
     }
 
-    /**
-     * Método responsável por listar todos os livros catalogados pertencentes a um dado autor.
-     * @param node          Refere-se ao nó raiz da árvore AVL.
-     * @param author        Refere-se ao nome do autor.
-     * @param stringStream  Refere-se a lista onde serão armazenados os dados.
-     */
-    private void searchEbookByAuthor(final Node node, final String author, final StringStream stringStream) {
-        if (node != null) {
-            searchEbookByAuthor(node.getSonOnTheLeft(), author, stringStream);  //INICIA NOVA RECURÇÃO A ESQUERDA
-            if (((Ebook) node.getElement()).getAuthor().equals(author)) {       //VERIFICA SE O AUTOR DO NÓ ATUAL É O PROCURADO
-                stringStream.add(((Ebook) node.getElement()).getTitle());       //SENDO, INSERE O LIVRO DO AUTOR NA LISTA
-            }
-            searchEbookByAuthor(node.getSonOnTheRight(), author, stringStream); //INICIA NOVA RECURSÃO A DIREITA
-        }
-    }
-
     /**
      * Método responsável por listar todos os livros catalogados.
      * @return  Retorna lista contendo todos os livros catalogados.
      */
     public StringStream listEbook() {
+        this.applyPendingReload();
         final StringStream stringStream = new StringStream();
         stringStream.add("----------------LISTA DE LIVROS CATALOGADOS----------------");
-        listEbook(ebookTreeStream.getRoot(), stringStream); //EFETUA LISTAGEM DE TODOS OS LIVROS EM MÉTODO AUXILIAR RECURSIVO
+        for (final Ebook ebook : ebookTreeStream) {         //PERCORRE A ÁRVORE AVL EM ORDEM SEM RECURSÃO
+            stringStream.add(ebook.getTitle());
+        }
         stringStream.add("----------------LISTA DE LIVROS CATALOGADOS----------------");
         if (stringStream.size() == 2) { //VERIFICA SE NA LISTA TEM ALGUM LIVRO
             stringStream.clear();       //NÃO HAVENDO, LIMPA A LISTA
@@ -167,24 +542,88 @@ public class Application {
     }
 
     /**
-     * Método responsável por listar todos os livros catalogados.
-     * @param node          Refere-se ao nó raiz da árvore AVL.
-     * @param stringStream  Refere-se a lista onde serão armazenados todos os livros.
+     * Método responsável por buscar livros por palavras de seus títulos, desconsiderando maiúsculas e acentos. Por
+     * padrão, o título deve conter todas as palavras; separando-as por OR, basta conter uma delas. São exibidos os
+     * livros mais relevantes, isto é, cujos títulos contêm as palavras mais raras do catálogo. Em modo mapeado, no
+     * qual o índice de títulos não é construído, o catálogo é percorrido e são exibidos os primeiros livros encontrados.
+     * @param keywords  Refere-se as palavras buscadas.
+     * @return          Retorna lista contendo os livros encontrados.
+     */
+    public StringStream searchEbookByTitle(final String keywords) {
+        this.applyPendingReload();
+        final StringStream stringStream = new StringStream();
+        stringStream.add("----------------LIVROS COM O TÍTULO: [" + keywords + "]----------------");
+        final int[] numbers = titleIndex.isEnabled() ? titleIndex.search(keywords, TITLE_RESULT_LIMIT)     //CONSULTA O ÍNDICE INVERTIDO DOS TÍTULOS
+                : TitleIndex.scan(ebookTreeStream, keywords, TITLE_RESULT_LIMIT);
+        for (final int number : numbers) {
+            final Ebook ebook = ebookTreeStream.search(number);
+            if (ebook != null) {
+                this.addDetails(stringStream, ebook);
+            }
+        }
+        stringStream.add("-----------------------------------------------------");
+        stringStream.add("----------------LIVROS COM O TÍTULO: [" + keywords + "]----------------");
+        if (stringStream.size() == 3) {     //VERIFICA SE NA LISTA TEM ALGUM LIVRO
+            stringStream.clear();           //SE NÃO HOUVER, LIMPA A LISTA DE LIVROS
+            stringStream.add("Listagem Indisponível! Não foram encontradas obras cujo título contém " + keywords + ".");
+        }
+        return stringStream;
+    }
+
+    /**
+     * Método responsável por sugerir nomes de autores iniciados por determinado prefixo, desconsiderando maiúsculas e
+     * acentos, juntamente com a quantidade de obras de cada um, dos autores com mais obras aos com menos.
+     * Em modo mapeado, os autores não são sugeridos, pois mantê-los em memória anularia a economia do modo.
+     * @param prefix    Refere-se ao início do nome digitado.
+     * @return          Retorna lista contendo as sugestões ou a indicação de que não estão disponíveis.
+     */
+    public StringStream completeAuthor(final String prefix) {
+        this.applyPendingReload();
+        if (!authorCompletions.isEnabled()) {
+            final StringStream stringStream = new StringStream();
+            stringStream.add("Sugestões Indisponíveis! Os autores não são sugeridos em modo mapeado.");
+            return stringStream;
+        }
+        return this.toStringStream(authorCompletions.complete(prefix, COMPLETION_LIMIT));
+    }
+
+    /**
+     * Método responsável por sugerir títulos iniciados por determinado prefixo, desconsiderando maiúsculas e acentos,
+     * juntamente com a quantidade de livros com cada título, dos títulos mais frequentes aos menos frequentes.
+     * Em modo mapeado, os títulos não são sugeridos, pois mantê-los em memória anularia a economia do modo.
+     * @param prefix    Refere-se ao início do título digitado.
+     * @return          Retorna lista contendo as sugestões ou a indicação de que não estão disponíveis.
+     */
+    public StringStream completeTitle(final String prefix) {
+        this.applyPendingReload();
+        if (!titleCompletions.isEnabled()) {
+            final StringStream stringStream = new StringStream();
+            stringStream.add("Sugestões Indisponíveis! Os títulos não são sugeridos em modo mapeado.");
+            return stringStream;
+        }
+        return this.toStringStream(titleCompletions.complete(prefix, COMPLETION_LIMIT));
+    }
+
+    /**
+     * Método responsável por converter sugestões em uma lista de textos, cada um seguido de sua quantidade de livros.
+     * @param completions   Refere-se as sugestões.
+     * @return              Retorna lista contendo as sugestões.
      */
-    private void listEbook(final Node node, final StringStream stringStream) {
-        if (node != null) {
-            listEbook(node.getSonOnTheLeft(), stringStream);
-            stringStream.add(((Ebook) node.getElement()).getTitle());
-            listEbook(node.getSonOnTheRight(), stringStream);
+    private StringStream toStringStream(final List<PrefixIndex.Completion> completions) {
+        final StringStream stringStream = new StringStream();
+        for (final PrefixIndex.Completion completion : completions) {
+            stringStream.add(completion.getText() + " (" + completion.getCount() + ")");
         }
+        return stringStream;
     }
 
     /**
      * Método responsável por buscar por um determinado livro por meio de seu número de ebook afim de exibir seu URL.
      * @param number    Refere-se ao número de identificação do livro.
-     * @return          Retorna ao resultado do método contendo o resultado da busca, bem como, da funcionalidade de salvar a busca em arquivo.
+     * @return          Retorna ao resultado do método contendo o resultado da busca, bem como, o resultado futuro (CompletableFuture) da funcionalidade de salvar a busca em arquivo.
      */
     public Object[] searchEbookByNumber(final int number) {
+        this.applyPendingReload();
         final Object[] result = new Object[2];
         final Ebook ebook = (Ebook) ebookTreeStream.search(number);  //BUSCA POR NÓ ONDE POSSÍVELMENTE SE ENCONTRA O LIVRO
         final StringStream stringStream = new StringStream();
@@ -193,22 +632,31 @@ public class Application {
         } else {                                                    //VERIFICA SE O LIVRO NÃO FOI ENCONTRADO
             stringStream.add("Link Indisponível! O livro cujo número é " + number + " não está contido no sistema.");   //CASO NÃO TENHA SIDO, PÕEM DADO QUE INDICA QUE O LIVRO NÃO FOI ACHADO
         }
-        result[0] = stringStream.saveFromFile(searchResults + number + ".txt");     //SALVA OS DADOS A LISTA EM ARQUIVO AO MESMO TEMPO QUE ARMAZENA O RESULTADO BOLEANO DA OPERAÇÃO
+        result[0] = resultWriter.submit(searchResults + number + ".txt", copyOf(stringStream));   //AGENDA A GRAVAÇÃO DA LISTA EM ARQUIVO, ARMAZENANDO O RESULTADO FUTURO DA OPERAÇÃO
         result[1] = stringStream;                                                   //ARMAZENA A LISTA
         return result;
     }
 
     /**
      * Método responsável por buscar por livros que foram publicados em determinado ano exibindo todas as suas informações.
+     * A lista retornada pertence ao chamador: o resultado armazenado e sua gravação em arquivo usam uma cópia.
      * @param year  Refere-se ao ano que será usado como chave de busca.
-     * @return      Retorna ao resultado do método contendo o resultado da busca, bem como, da funcionalidade de salvar a busca em arquivo. 
+     * @return      Retorna ao resultado do método contendo o resultado da busca, bem como, o resultado futuro (CompletableFuture) da funcionalidade de salvar a busca em arquivo.
      */
     public Object[] searchEbookByYear(final int year) {
+        this.applyPendingReload();
+        final Object[] cached = this.cachedResult(yearKey(year), searchResults + year + ".txt");
+        if (cached != null) {                                   //BUSCA JÁ REALIZADA SEM ALTERAÇÕES DO ANO DESDE ENTÃO
+            return cached;
+        }
+        final long generation = resultCache.getGeneration();
         System.out.println("Carregando, aguarde...");
         final Object[] result = new Object[2];
         final StringStream stringStream = new StringStream();
         stringStream.add("----------------LIVROS DO ANO: [" + year + "]----------------");
-        searchEbookByYear(ebookTreeStream.getRoot(), year, stringStream);    //EFATUA LISTAGEM DE LIVROS PUBLICADOS EM DETERMINADO ANO EM MÉTODO AUXILIAR   
+        for (final Ebook ebook : yearIndex.get(year)) {         //PERCORRE APENAS OS LIVROS DO ANO, JÁ EM ORDEM DE NÚMERO
+            this.addDetails(stringStream, ebook);
+        }
         stringStream.add("-----------------------------------------------------");
         stringStream.add("----------------LIVROS DO ANO: [" + year + "]----------------");
         if(stringStream.size() == 3){   //VERIFICA SE NA LISTA TEM ALGUM LIVRO
@@ -216,31 +664,53 @@ public class Application {
             stringStream.add("Listagem Indisponível! Não foram encontradas obras" +
                     " cujo ano de publicação é " + year + " no sistema.");  //SE NÃO HOUVER, PÕEM DADO QUE INDICA QUE NÃO HÁ LIVROS CORRESPONDENTES DO ANO INFORMADO
         }
-        result[0] = stringStream.saveFromFile(searchResults + year + ".txt"); //SALVA OS DADOS A LISTA EM ARQUIVO AO MESMO TEMPO QUE ARMAZENA O RESULTADO BOLEANO DA OPERAÇÃO
+        final StringStream saved = copyOf(stringStream);    //A CÓPIA GRAVADA E ARMAZENADA NÃO É ENTREGUE AO CHAMADOR
+        result[0] = resultWriter.submit(searchResults + year + ".txt", saved); //AGENDA A GRAVAÇÃO DA LISTA EM ARQUIVO, ARMAZENANDO O RESULTADO FUTURO DA OPERAÇÃO
         result[1] = stringStream;                                             //ARMAZENA A LISTA
+        resultCache.put(yearKey(year), new Object[]{result[0], saved}, generation);
         return result;
     }
 
     /**
-     * Método responsável por listar todos os livros de determinado ano.
-     * @param node              Refere-se ao nó raiz da árvore AVL.
-     * @param year              Refere-se ao ano de publicação dos livros a serem listados.
-     * @param stringStream      Refere-se a lista onde os dados serão armazenados.
+     * Método responsável por buscar por livros que foram publicados em determinado intervalo de anos exibindo todas as
+     * suas informações, em ordem de ano e, para cada ano, de número.
+     * @param fromYear  Refere-se ao primeiro ano do intervalo.
+     * @param toYear    Refere-se ao último ano do intervalo.
+     * @return          Retorna ao resultado do método contendo o resultado da busca, bem como, o resultado futuro (CompletableFuture) da funcionalidade de salvar a busca em arquivo.
      */
-    private void searchEbookByYear(final Node node, final int year, final StringStream stringStream) {
-        if (node != null) {
-            searchEbookByYear(node.getSonOnTheLeft(), year, stringStream);  //INICIA NOVA RECURSÃO A ESQUERDA
-            if (((Ebook) node.getElement()).getYear() == year) {            //VERIFICA SE O LIVRO DO NÓ ATUAL FOI PUBLICADO NO ANO EM QUE SE BUSCA PUBLICAÇÕES
-                stringStream.add("-----------------------------------------------------");
-                stringStream.add("NÚMERO: \t" + ((Ebook) node.getElement()).getNumber());
-                stringStream.add("TÍTULO: \t" + ((Ebook) node.getElement()).getTitle());
-                stringStream.add("AUTOR: \t\t" + ((Ebook) node.getElement()).getAuthor());
-                stringStream.add("MÊS: \t\t" + ((Ebook) node.getElement()).getMonth());
-                stringStream.add("ANO: \t\t" + ((Ebook) node.getElement()).getYear());
-                stringStream.add("LINK: \t\t" + ((Ebook) node.getElement()).getUrl());
-            }
-            searchEbookByYear(node.getSonOnTheRight(), year, stringStream);//INICIA NOVA RECURSÃO A DIREITA
+    public Object[] searchEbookByYearRange(final int fromYear, final int toYear) {
+        this.applyPendingReload();
+        final Object[] result = new Object[2];
+        final StringStream stringStream = new StringStream();
+        stringStream.add("----------------LIVROS DOS ANOS: [" + fromYear + "-" + toYear + "]----------------");
+        for (final Ebook ebook : yearIndex.range(fromYear, toYear)) {   //PERCORRE APENAS OS ANOS DO INTERVALO
+            this.addDetails(stringStream, ebook);
+        }
+        stringStream.add("-----------------------------------------------------");
+        stringStream.add("----------------LIVROS DOS ANOS: [" + fromYear + "-" + toYear + "]----------------");
+        if (stringStream.size() == 3) {     //VERIFICA SE NA LISTA TEM ALGUM LIVRO
+            stringStream.clear();           //SE NÃO HOUVER, LIMPA A LISTA DE LIVROS
+            stringStream.add("Listagem Indisponível! Não foram encontradas obras" +
+                    " cujo ano de publicação está entre " + fromYear + " e " + toYear + " no sistema.");
         }
+        result[0] = resultWriter.submit(searchResults + fromYear + "-" + toYear + ".txt", copyOf(stringStream));  //AGENDA A GRAVAÇÃO DA LISTA EM ARQUIVO, ARMAZENANDO O RESULTADO FUTURO DA OPERAÇÃO
+        result[1] = stringStream;                                                                       //ARMAZENA A LISTA
+        return result;
+    }
+
+    /**
+     * Método responsável por inserir na lista todas as informações de determinado livro.
+     * @param stringStream  Refere-se a lista.
+     * @param ebook         Refere-se ao livro.
+     */
+    private void addDetails(final StringStream stringStream, final Ebook ebook) {
+        stringStream.add("-----------------------------------------------------");
+        stringStream.add("NÚMERO: \t" + ebook.getNumber());
+        stringStream.add("TÍTULO: \t" + ebook.getTitle());
+        stringStream.add("AUTOR: \t\t" + ebook.getAuthor());
+        stringStream.add("MÊS: \t\t" + ebook.getMonth());
+        stringStream.add("ANO: \t\t" + ebook.getYear());
+        stringStream.add("LINK: \t\t" + ebook.getUrl());
     }
 
     /**
@@ -248,13 +718,79 @@ public class Application {
      * @param number    Refere-se ao número de identificação do livro.
      * @return          Retorna valor boleano afim de indicar se a operação foi bem sucedida ou não.
      */
-    public boolean removeEbook(final int number) {
-        if(ebookTreeStream.search(number) != null){     //BUSCA LIVRO AFIM DE VERIFICAR SE O MESMO EXISTE
-            ebookTreeStream.remove(number);             //SE EXISTIR FAZ COM QUE SEJA REMOVIDO
-            return true;
-        } else {                                        //VERIFICA SE O LIVRO NÃO EXISTE AFIM DE INDICAR QUE A OPERAÇÃO FALHOU
+    public synchronized boolean removeEbook(final int number) {
+        this.applyPendingReload();
+        if (ebookTreeStream.remove(number) == null) {   //REMOVE O LIVRO EM UMA ÚNICA DESCIDA, INDICANDO SE O MESMO EXISTIA
             return false;
         }
+        if (journal != null) {                          //REGISTRA A REMOÇÃO NO DIÁRIO DO ARQUIVO CARREGADO
+            try {
+                journal.remove(number);
+            } catch (final IOException exception) {
+                this.journalFailure();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por retornar uma cópia do resultado armazenado de determinada busca, cuja lista pertence ao
+     * chamador: alterá-la não afeta o resultado armazenado nem sua gravação. Caso a gravação anterior do resultado em
+     * arquivo tenha falhado, uma nova gravação é agendada.
+     * @param key       Refere-se a chave da busca.
+     * @param fileName  Refere-se ao nome do arquivo do resultado.
+     * @return          Retorna resultado da busca ou nulo caso não esteja armazenado.
+     */
+    private Object[] cachedResult(final String key, final String fileName) {
+        final Object[] cached = resultCache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        final Object[] result = new Object[]{cached[0], copyOf((StringStream) cached[1])};  //O CHAMADOR PODE ALTERAR O RESULTADO RETORNADO
+        final CompletableFuture<?> saved = (CompletableFuture<?>) cached[0];
+        if (saved.isCompletedExceptionally() || (saved.isDone() && !(boolean) saved.join())) {
+            result[0] = resultWriter.submit(fileName, (StringStream) cached[1]);
+        }
+        return result;
+    }
+
+    /**
+     * Método responsável por copiar determinada lista. As listas agendadas para gravação e armazenadas na cache são
+     * cópias, de modo que as listas retornadas pelas buscas podem ser alteradas livremente.
+     * @param stringStream  Refere-se a lista.
+     * @return              Retorna cópia da lista.
+     */
+    private static StringStream copyOf(final StringStream stringStream) {
+        final StringStream copy = new StringStream();
+        copy.addAll(stringStream);
+        return copy;
+    }
+
+    /**
+     * Método responsável por retornar a chave das buscas por determinado autor.
+     * @param author    Refere-se ao nome do autor.
+     * @return          Retorna chave da busca.
+     */
+    private static String authorKey(final String author) {
+        return "AUTOR:" + author;
+    }
+
+    /**
+     * Método responsável por retornar a chave das buscas por determinado ano.
+     * @param year  Refere-se ao ano de publicação.
+     * @return      Retorna chave da busca.
+     */
+    private static String yearKey(final int year) {
+        return "ANO:" + year;
+    }
+
+    /**
+     * Método responsável por auxiliar os testes. Para tal, ele retorna a cache dos resultados de busca por
+     * autor e por ano, cujos contadores de acertos, falhas e descartes permitem dimensioná-la.
+     * @return Retorna cache dos resultados de busca.
+     */
+    public ResultCache<String, Object[]> getResultCache() {
+        return resultCache;
     }
 
     /**
@@ -1,5 +1,8 @@
 package control;
 
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import util.StringStream;
 import view.*;
 
@@ -11,6 +14,7 @@ public class ConsoleInterface {
     private final Screen screen = new Screen();
     private final Keyboard keyboard = new Keyboard();
     private final Application application = new Application();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
     
     /**
      * Construtor responsável por inicializar a classe.
@@ -26,10 +30,13 @@ public class ConsoleInterface {
         /*
         O objeto "result" tem o propósito de receber os resultados dos métodos contidos no objeto Application
             O índice 0 (zero) tem a finalidade de receber dados sobre o resultado das operações de salvar e carregar arquivos
+                (nas buscas, o resultado futuro da gravação, que é concluída em segundo plano; eventuais falhas são
+                exibidas antes do menu seguinte, sem que o menu aguarde a gravação)
             O índice 1 (um) tem a finalidade de receber listas contendo os resultados das listagens efetuadas
         */
         Object result[] = new Object[2];
         while(true){
+            showFailures();
             screen.showMenu();
             switch (keyboard.inputStr("Digite uma opção válida: ")){
                 case "1":
@@ -66,9 +73,7 @@ public class ConsoleInterface {
                 case "5":
                     result = application.searchEbookByAuthor(keyboard.inputStr("Informe o nome do autor: "));
                     screen.ShowList((StringStream)result[1]);
-                    if(!(boolean)result[0]){
-                        screen.showMessage("\nFalha! Não foi possível gravar o resultado da busca em arquivo.\n");
-                    }
+                    watchSave(result[0]);
                     break;
                 case "6":
                     screen.ShowList(application.listEbook());
@@ -76,16 +81,12 @@ public class ConsoleInterface {
                 case "7":
                     result = application.searchEbookByNumber(keyboard.inputInt("Informe o número do livro: "));
                     screen.ShowList((StringStream)result[1]);
-                    if(!(boolean)result[0]){
-                        screen.showMessage("\nFalha! Não foi possível gravar o resultado da busca em arquivo.\n");
-                    }
+                    watchSave(result[0]);
                     break;
                 case "8":
                     result = application.searchEbookByYear(keyboard.inputInt("Informe o ano: "));
                     screen.ShowList((StringStream)result[1]);
-                    if(!(boolean)result[0]){
-                        screen.showMessage("\nFalha! Não foi possível gravar o resultado da busca em arquivo.\n");
-                    }
+                    watchSave(result[0]);
                     break;
                 case "9":
                     if(application.treeIsEmpty()){
@@ -96,8 +97,18 @@ public class ConsoleInterface {
                     screen.showBooleanMessage("Sucesso! Livro removido do sistema.",
                     "Falha! Este livro não está contido no sistema.", (boolean)result[0]);
                     break;
+                case "11":
+                    result = application.searchEbookByYearRange(keyboard.inputInt("Informe o primeiro ano: "),
+                        keyboard.inputInt("Informe o último ano: "));
+                    screen.ShowList((StringStream)result[1]);
+                    watchSave(result[0]);
+                    break;
+                case "12":
+                    screen.ShowList(application.searchEbookByTitle(keyboard.inputStr("Informe as palavras do título (separe por OR para buscar qualquer uma): ")));
+                    break;
                 case "10":
                     screen.clear();
+                    application.close();
                     System.out.println("Aplicação finalizada pelo usuário.");
                     System.exit(0);
                 default:
@@ -105,4 +116,27 @@ public class ConsoleInterface {
             }            
         }
     }
+
+    /**
+     * Método responsável por acompanhar a gravação em segundo plano do resultado de uma busca. Caso a gravação
+     * falhe, a falha é registrada para ser exibida antes do próximo menu.
+     * @param saved Refere-se ao resultado futuro da gravação.
+     */
+    private void watchSave(final Object saved){
+        ((CompletableFuture<?>)saved).whenComplete((done, exception) -> {
+            if(exception != null || !(boolean)done){
+                failures.add("\nFalha! Não foi possível gravar o resultado da busca em arquivo.\n");
+            }
+        });
+    }
+
+    /**
+     * Método responsável por exibir as falhas de gravação registradas desde o último menu.
+     */
+    private void showFailures(){
+        String failure;
+        while((failure = failures.poll()) != null){
+            screen.showMessage(failure);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package model;
 
+import java.util.Objects;
+
 /**
  * Classe responsável por comportar-se como ebook.
  * @author Everton Bruno Silva dos Santos
@@ -80,5 +82,33 @@ public class Ebook {
     public String getUrl() {
         return url;
     }
-    
+
+    /**
+     * Método responsável por comparar o ebook com determinado objeto. Dois ebooks são iguais quando todos os
+     * seus dados são iguais, independentemente de como são armazenados.
+     * @param object    Refere-se ao objeto comparado.
+     * @return          Retorna dado boleano que indica se os dados são iguais.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof Ebook)) {
+            return false;
+        }
+        final Ebook ebook = (Ebook) object;
+        return getNumber() == ebook.getNumber() && getYear() == ebook.getYear()
+                && Objects.equals(getTitle(), ebook.getTitle()) && Objects.equals(getAuthor(), ebook.getAuthor())
+                && Objects.equals(getMonth(), ebook.getMonth()) && Objects.equals(getUrl(), ebook.getUrl());
+    }
+
+    /**
+     * Método responsável por retornar o código de dispersão calculado a partir de todos os dados do ebook.
+     * @return Retorna código de dispersão.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getNumber(), getTitle(), getAuthor(), getMonth(), getYear(), getUrl());
+    }
+
 }
@@ -0,0 +1,497 @@
+package util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Classe responsável por comportar-se como uma árvore AVL cujos nós são armazenados em vetores paralelos.
+ * Em vez de um objeto por nó, as chaves, os filhos, as alturas e as quantidades de nós ficam em vetores
+ * de inteiros e os elementos em um vetor de objetos, de modo que a árvore ocupa poucos objetos na memória
+ * e suas buscas percorrem regiões contíguas. As posições liberadas por remoções são reaproveitadas por
+ * meio de uma lista de posições livres encadeada no próprio vetor de filhos à esquerda.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore irá armazenar.
+ */
+public class ArrayTree<E> implements KeyedTree<E> {
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private int[] keys;
+    private int[] sonsOnTheLeft;
+    private int[] sonsOnTheRight;
+    private int[] heights;
+    private int[] sizes;
+    private Object[] elements;
+    private int root;
+    private int freePosition;
+    private int usedPositions;
+    private E oldElement;
+    private E newElement;
+    private boolean changed;
+
+    /**
+     * Construtor responsável por inicializar a árvore com capacidade padrão.
+     */
+    public ArrayTree() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Construtor responsável por inicializar a árvore com determinada capacidade inicial.
+     * @param capacity Refere-se a quantidade de nós que a árvore comporta antes de crescer.
+     */
+    public ArrayTree(final int capacity) {
+        final int initialCapacity = Math.max(capacity, 1);
+        this.keys = new int[initialCapacity];
+        this.sonsOnTheLeft = new int[initialCapacity];
+        this.sonsOnTheRight = new int[initialCapacity];
+        this.heights = new int[initialCapacity];
+        this.sizes = new int[initialCapacity];
+        this.elements = new Object[initialCapacity];
+        this.root = NIL;
+        this.freePosition = NIL;
+        this.usedPositions = 0;
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore, mantendo a capacidade já alocada.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.elements, 0, this.usedPositions, null);
+        this.root = NIL;
+        this.freePosition = NIL;
+        this.usedPositions = 0;
+    }
+
+    /**
+     * Método responsável por retornar o elemento armazenado em determinada posição.
+     * @param node  Refere-se a posição do nó.
+     * @return      Retorna elemento do nó.
+     */
+    @SuppressWarnings("unchecked")
+    private E elementOf(final int node) {
+        return (E) this.elements[node];
+    }
+
+    /**
+     * Método responsável por ocupar uma posição livre com um novo nó.
+     * @param key       Refere-se a chave do nó.
+     * @param element   Refere-se ao elemento do nó.
+     * @return          Retorna posição do novo nó.
+     */
+    private int allocate(final int key, final E element) {
+        final int node;
+        if (this.freePosition != NIL) {
+            node = this.freePosition;
+            this.freePosition = this.sonsOnTheLeft[node];
+        } else {
+            if (this.usedPositions == this.keys.length) {
+                this.grow();
+            }
+            node = this.usedPositions++;
+        }
+        this.keys[node] = key;
+        this.elements[node] = element;
+        this.sonsOnTheLeft[node] = NIL;
+        this.sonsOnTheRight[node] = NIL;
+        this.heights[node] = 1;
+        this.sizes[node] = 1;
+        return node;
+    }
+
+    /**
+     * Método responsável por devolver determinada posição a lista de posições livres.
+     * @param node Refere-se a posição do nó.
+     */
+    private void release(final int node) {
+        this.elements[node] = null;
+        this.sonsOnTheLeft[node] = this.freePosition;
+        this.freePosition = node;
+    }
+
+    /**
+     * Método responsável por dobrar a capacidade dos vetores da árvore.
+     */
+    private void grow() {
+        final int capacity = this.keys.length * 2;
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.sonsOnTheLeft = Arrays.copyOf(this.sonsOnTheLeft, capacity);
+        this.sonsOnTheRight = Arrays.copyOf(this.sonsOnTheRight, capacity);
+        this.heights = Arrays.copyOf(this.heights, capacity);
+        this.sizes = Arrays.copyOf(this.sizes, capacity);
+        this.elements = Arrays.copyOf(this.elements, capacity);
+    }
+
+    /**
+     * Método responsável por recalcular o elemento de determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que recebe a chave e o elemento atual (ou nulo) e retorna o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public E compute(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        this.update(key, remappingFunction);
+        return this.newElement;
+    }
+
+    /**
+     * Método responsável por remover elementos da árvore, percorrendo-a uma única vez.
+     * @param key   Refere-se a achave do elemento.
+     * @return      Retorna elemento removido ou nulo caso a chave não exista.
+     */
+    @Override
+    public E remove(final int key) {
+        this.update(key, (currentKey, currentElement) -> null);
+        return this.oldElement;
+    }
+
+    /**
+     * Método responsável por aplicar determinada alteração na árvore em uma única descida.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     */
+    private void update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        this.oldElement = null;
+        this.newElement = null;
+        this.changed = false;
+        this.root = this.update(key, remappingFunction, this.root);
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por aplicar determinada alteração na árvore. O rebalanceamento
+     * só é efetuado no caminho de volta quando houver inserção ou remoção de nós.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     * @param node                  Refere-se a posição do nó que possívelmente contém a chave.
+     * @return                      Retorna posição da raiz da subárvore reconstruída.
+     */
+    private int update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction, final int node) {
+        if (node == NIL) {
+            this.newElement = remappingFunction.apply(key, null);
+            if (this.newElement == null) {
+                return NIL;
+            }
+            this.changed = true;
+            return this.allocate(key, this.newElement);
+        } else if (this.keys[node] == key) {
+            this.oldElement = this.elementOf(node);
+            this.newElement = remappingFunction.apply(key, this.oldElement);
+            if (this.newElement != null) {
+                this.elements[node] = this.newElement;
+                return node;
+            }
+            this.changed = true;
+            return this.removeNode(node);
+        } else if (this.keys[node] > key) {
+            final int sonOnTheLeft = this.update(key, remappingFunction, this.sonsOnTheLeft[node]);
+            this.sonsOnTheLeft[node] = sonOnTheLeft;    //O VETOR PODE TER SIDO REALOCADO DURANTE A RECURSÃO
+        } else {
+            final int sonOnTheRight = this.update(key, remappingFunction, this.sonsOnTheRight[node]);
+            this.sonsOnTheRight[node] = sonOnTheRight;  //O VETOR PODE TER SIDO REALOCADO DURANTE A RECURSÃO
+        }
+        return this.changed ? this.adjustHeigth(node) : node;
+    }
+
+    /**
+     * Método auxiliar responsável por desligar determinado nó da árvore.
+     * @param node  Refere-se a posição do nó que será removido.
+     * @return      Retorna posição da raiz da subárvore reconstruída sem o nó.
+     */
+    private int removeNode(final int node) {
+        if (this.sonsOnTheLeft[node] == NIL) {
+            final int sonOnTheRight = this.sonsOnTheRight[node];
+            this.release(node);
+            return sonOnTheRight;
+        } else if (this.sonsOnTheRight[node] == NIL) {
+            final int sonOnTheLeft = this.sonsOnTheLeft[node];
+            this.release(node);
+            return sonOnTheLeft;
+        } else {
+            int highest;
+            for (highest = this.sonsOnTheLeft[node]; this.sonsOnTheRight[highest] != NIL; highest = this.sonsOnTheRight[highest]);
+            this.keys[node] = this.keys[highest];
+            this.elements[node] = this.elements[highest];
+            this.sonsOnTheLeft[node] = this.removeHighest(this.sonsOnTheLeft[node]);
+            return this.adjustHeigth(node);
+        }
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por desligar o nó de maior chave de determinada subárvore.
+     * @param node  Refere-se a posição da raiz da subárvore.
+     * @return      Retorna posição da raiz da subárvore reconstruída sem o nó de maior chave.
+     */
+    private int removeHighest(final int node) {
+        if (this.sonsOnTheRight[node] == NIL) {
+            final int sonOnTheLeft = this.sonsOnTheLeft[node];
+            this.release(node);
+            return sonOnTheLeft;
+        }
+        this.sonsOnTheRight[node] = this.removeHighest(this.sonsOnTheRight[node]);
+        return this.adjustHeigth(node);
+    }
+
+    /**
+     * Método responsável por retornar a altura de determinado nó.
+     * @param node  Refere-se a posição do nó.
+     * @return      Retorna altura do nó.
+     */
+    private int heightOf(final int node) {
+        return node == NIL ? 0 : this.heights[node];
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de nós da subárvore cuja raiz é determinado nó.
+     * @param node  Refere-se a posição do nó.
+     * @return      Retorna quantidade de nós da subárvore.
+     */
+    private int sizeOf(final int node) {
+        return node == NIL ? 0 : this.sizes[node];
+    }
+
+    /**
+     * Método responsável por retornar o valor de balanceamento de determinado nó.
+     * @param node  Refere-se a posição do nó.
+     * @return      Retorna valor de balanceamento do nó.
+     */
+    private int balancingOf(final int node) {
+        return this.heightOf(this.sonsOnTheRight[node]) - this.heightOf(this.sonsOnTheLeft[node]);
+    }
+
+    /**
+     * Método responsável por atualizar a altura e a quantidade de nós de determinado nó a partir de seus filhos.
+     * @param node Refere-se a posição do nó.
+     */
+    private void updateNode(final int node) {
+        this.heights[node] = 1 + Math.max(this.heightOf(this.sonsOnTheLeft[node]), this.heightOf(this.sonsOnTheRight[node]));
+        this.sizes[node] = 1 + this.sizeOf(this.sonsOnTheLeft[node]) + this.sizeOf(this.sonsOnTheRight[node]);
+    }
+
+    /**
+     * Método responsável por retornar subárvore reconstruída de forma balanceada.
+     * @param node  Refere-se a posição do nó que será balanceado.
+     * @return      Retorna posição da raiz da subárvore balanceada.
+     */
+    private int adjustHeigth(final int node) {
+        this.updateNode(node);
+        final int balancing = this.balancingOf(node);
+        if (balancing <= -2) {
+            if (this.balancingOf(this.sonsOnTheLeft[node]) > 0) {
+                this.sonsOnTheLeft[node] = this.rotationRight(this.sonsOnTheLeft[node]);
+            }
+            return this.rotationLeft(node);
+        } else if (balancing >= 2) {
+            if (this.balancingOf(this.sonsOnTheRight[node]) < 0) {
+                this.sonsOnTheRight[node] = this.rotationLeft(this.sonsOnTheRight[node]);
+            }
+            return this.rotationRight(node);
+        }
+        return node;
+    }
+
+    /**
+     * Método responsável por efetuar rotações simples a esquerda, promovendo o filho à esquerda.
+     * @param oldRoot   Refere-se a posição do nó que deixará de ser raiz.
+     * @return          Retorna posição da nova raiz.
+     */
+    private int rotationLeft(final int oldRoot) {
+        final int newRoot = this.sonsOnTheLeft[oldRoot];
+        this.sonsOnTheLeft[oldRoot] = this.sonsOnTheRight[newRoot];
+        this.sonsOnTheRight[newRoot] = oldRoot;
+        this.updateNode(oldRoot);
+        this.updateNode(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Método responsável por efetuar rotações simples a direita, promovendo o filho à direita.
+     * @param oldRoot   Refere-se a posição do nó que deixará de ser raiz.
+     * @return          Retorna posição da nova raiz.
+     */
+    private int rotationRight(final int oldRoot) {
+        final int newRoot = this.sonsOnTheRight[oldRoot];
+        this.sonsOnTheRight[oldRoot] = this.sonsOnTheLeft[newRoot];
+        this.sonsOnTheLeft[newRoot] = oldRoot;
+        this.updateNode(oldRoot);
+        this.updateNode(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Método responsável por efetuar buscas na árvore.
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna elemento.
+     */
+    @Override
+    public E search(final int key) {
+        int node = this.root;
+        while (node != NIL) {
+            if (this.keys[node] == key) {
+                return this.elementOf(node);
+            }
+            node = this.keys[node] > key ? this.sonsOnTheLeft[node] : this.sonsOnTheRight[node];
+        }
+        return null;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de nós contidos na árvore.
+     * @return Retorna quantidade de nós.
+     */
+    @Override
+    public int size() {
+        return this.sizeOf(this.root);
+    }
+
+    /**
+     * Método responsável por retornar a maior chave da árvore.
+     * @return Retorna o maior valor de chave.
+     */
+    @Override
+    public int highestKey() {
+        if (this.root == NIL) {
+            return -1;
+        }
+        int node;
+        for (node = this.root; this.sonsOnTheRight[node] != NIL; node = this.sonsOnTheRight[node]);
+        return this.keys[node];
+    }
+
+    /**
+     * Método responsável por retornar a menor chave da árvore.
+     * @return Retorna o menor valor de chave.
+     */
+    @Override
+    public int firstKey() {
+        if (this.root == NIL) {
+            return -1;
+        }
+        int node;
+        for (node = this.root; this.sonsOnTheLeft[node] != NIL; node = this.sonsOnTheLeft[node]);
+        return this.keys[node];
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de chaves menores que determinada chave.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave, iniciando em zero.
+     */
+    @Override
+    public int rank(final int key) {
+        int rank = 0;
+        int node = this.root;
+        while (node != NIL) {
+            if (this.keys[node] < key) {
+                rank += 1 + this.sizeOf(this.sonsOnTheLeft[node]);
+                node = this.sonsOnTheRight[node];
+            } else {
+                node = this.sonsOnTheLeft[node];
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+     * @param index Refere-se a posição do elemento, iniciando em zero.
+     * @return      Retorna elemento ou nulo caso a posição seja inválida.
+     */
+    @Override
+    public E select(int index) {
+        if (index < 0 || index >= this.size()) {
+            return null;
+        }
+        int node = this.root;
+        while (true) {
+            final int sizeOnTheLeft = this.sizeOf(this.sonsOnTheLeft[node]);
+            if (index < sizeOnTheLeft) {
+                node = this.sonsOnTheLeft[node];
+            } else if (index > sizeOnTheLeft) {
+                index -= sizeOnTheLeft + 1;
+                node = this.sonsOnTheRight[node];
+            } else {
+                return this.elementOf(node);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves estão em determinado intervalo, em ordem
+     * crescente de chave. As subárvores fora do intervalo não são visitadas.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    @Override
+    public Iterable<E> subRange(final int fromKey, final int toKey) {
+        return () -> new ArrayTreeIterator(fromKey, toKey);
+    }
+
+    /**
+     * Método responsável por retornar iterador que percorre os elementos da árvore em ordem crescente de chave.
+     * @return Retorna iterador da árvore.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayTreeIterator(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Classe responsável por percorrer a árvore em ordem crescente de chaves com uma pilha de posições.
+     * @author Everton Bruno Silva dos Santos
+     */
+    private class ArrayTreeIterator implements Iterator<E> {
+        private final int[] stack;
+        private final int toKey;
+        private int top;
+
+        /**
+         * Construtor responsável por inicializar o iterador limitado a determinado intervalo de chaves.
+         * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+         * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+         */
+        public ArrayTreeIterator(final int fromKey, final int toKey) {
+            this.stack = new int[heightOf(root)];
+            this.toKey = toKey;
+            this.top = 0;
+            for (int node = root; node != NIL;) {
+                if (keys[node] >= fromKey) {
+                    this.stack[this.top++] = node;
+                    node = sonsOnTheLeft[node];
+                } else {
+                    node = sonsOnTheRight[node];
+                }
+            }
+        }
+
+        /**
+         * Método responsável por retornar dado boleano que indica se ainda há elementos a percorrer.
+         * @return Retorna dado boleano.
+         */
+        @Override
+        public boolean hasNext() {
+            return this.top > 0 && keys[this.stack[this.top - 1]] <= this.toKey;
+        }
+
+        /**
+         * Método responsável por retornar o próximo elemento em ordem de chave.
+         * @return Retorna próximo elemento.
+         */
+        @Override
+        public E next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int node = this.stack[--this.top];
+            for (int son = sonsOnTheRight[node]; son != NIL; son = sonsOnTheLeft[son]) {
+                this.stack[this.top++] = son;
+            }
+            return elementOf(node);
+        }
+
+    }
+
+}
@@ -0,0 +1,328 @@
+package util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Classe responsável por gravar arquivos de forma que uma interrupção nunca deixe o arquivo de destino
+ * incompleto. Os dados são gravados em um arquivo temporário ao lado do destino, que só o substitui
+ * (por renomeação atômica, quando suportada) ao confirmar a gravação; caso a gravação não seja
+ * confirmada, o arquivo temporário é descartado ao fechar. Textos são codificados em UTF-8 diretamente
+ * em um buffer reutilizável de grande capacidade, sem strings ou arrays intermediários. Opcionalmente,
+ * os dados são comprimidos em uma thread própria, em paralelo com a codificação.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class AtomicFileWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private final OutputStream compressed;
+    private final long start;
+    private int position;
+    private long lines;
+    private long size;
+    private long nanos;
+    private boolean committed;
+
+    /**
+     * Construtor responsável por criar o arquivo temporário de determinado arquivo de destino.
+     * @param fileName      Refere-se ao nome do arquivo de destino.
+     * @throws IOException  Caso não seja possível criar o arquivo temporário.
+     */
+    public AtomicFileWriter(final String fileName) throws IOException {
+        this(fileName, Compression.NONE);
+    }
+
+    /**
+     * Construtor responsável por criar o arquivo temporário de determinado arquivo de destino, cujos dados
+     * serão gravados no formato de compressão informado.
+     * @param fileName      Refere-se ao nome do arquivo de destino.
+     * @param compression   Refere-se ao formato de compressão dos dados.
+     * @throws IOException  Caso não seja possível criar o arquivo temporário.
+     */
+    public AtomicFileWriter(final String fileName, final Compression compression) throws IOException {
+        this.start = System.nanoTime();
+        this.target = Paths.get(fileName);
+        this.temporary = this.target.resolveSibling(this.target.getFileName() + ".tmp");
+        this.channel = FileChannel.open(this.temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.bytes = new byte[BUFFER_SIZE];
+        this.buffer = ByteBuffer.wrap(this.bytes);
+        this.compressed = compression == Compression.NONE ? null
+                : new PipelinedOutputStream(compression.compress(new ChannelOutputStream(this.channel)));
+        this.position = 0;
+        this.lines = 0;
+        this.size = 0;
+        this.nanos = 0;
+        this.committed = false;
+    }
+
+    /**
+     * Método responsável por retornar o canal do arquivo temporário, para gravações binárias diretas. Os
+     * dados acumulados no buffer são gravados antes.
+     * @return              Retorna canal do arquivo temporário.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     * @throws IllegalStateException Caso os dados estejam sendo comprimidos.
+     */
+    public FileChannel getChannel() throws IOException {
+        if (this.compressed != null) {
+            throw new IllegalStateException("Gravação direta indisponível com compressão.");
+        }
+        this.flush();
+        return this.channel;
+    }
+
+    /**
+     * Método responsável por gravar determinada string codificada em UTF-8.
+     * @param string        Refere-se a string.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    public void write(final String string) throws IOException {
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            if (this.position > BUFFER_SIZE - 4) {
+                this.flush();
+            }
+            final char current = string.charAt(i);
+            if (current < 0x80) {
+                this.bytes[this.position++] = (byte) current;
+            } else if (current < 0x800) {
+                this.bytes[this.position++] = (byte) (0xC0 | (current >> 6));
+                this.bytes[this.position++] = (byte) (0x80 | (current & 0x3F));
+            } else if (Character.isHighSurrogate(current) && i + 1 < length
+                    && Character.isLowSurrogate(string.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(current, string.charAt(++i));
+                this.bytes[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+                this.bytes[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                this.bytes[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                this.bytes[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(current)) {
+                this.bytes[this.position++] = '?';      //SUBSTITUI SURROGATES ISOLADOS TAL COMO String.getBytes
+            } else {
+                this.bytes[this.position++] = (byte) (0xE0 | (current >> 12));
+                this.bytes[this.position++] = (byte) (0x80 | ((current >> 6) & 0x3F));
+                this.bytes[this.position++] = (byte) (0x80 | (current & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por gravar determinado caractere ASCII.
+     * @param value         Refere-se ao caractere.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    public void write(final char value) throws IOException {
+        if (this.position == BUFFER_SIZE) {
+            this.flush();
+        }
+        this.bytes[this.position++] = (byte) value;
+    }
+
+    /**
+     * Método responsável por gravar determinado inteiro em notação decimal, sem criar strings.
+     * @param value         Refere-se ao inteiro.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    public void write(final int value) throws IOException {
+        if (this.position > BUFFER_SIZE - 11) {
+            this.flush();
+        }
+        if (value < 0) {
+            this.bytes[this.position++] = '-';
+        }
+        final int first = this.position;
+        int remaining = value;
+        do {
+            this.bytes[this.position++] = (byte) ('0' + Math.abs(remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        for (int i = first, j = this.position - 1; i < j; i++, j--) {     //OS DÍGITOS FORAM GRAVADOS DO MENOS SIGNIFICATIVO
+            final byte digit = this.bytes[i];
+            this.bytes[i] = this.bytes[j];
+            this.bytes[j] = digit;
+        }
+    }
+
+    /**
+     * Método responsável por gravar a quebra de linha do sistema, contabilizando a linha gravada.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    public void newLine() throws IOException {
+        if (this.position > BUFFER_SIZE - LINE_SEPARATOR.length) {
+            this.flush();
+        }
+        System.arraycopy(LINE_SEPARATOR, 0, this.bytes, this.position, LINE_SEPARATOR.length);
+        this.position += LINE_SEPARATOR.length;
+        this.lines++;
+    }
+
+    /**
+     * Método responsável por gravar no arquivo temporário (ou entregar a compressão) os dados acumulados no buffer.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    public void flush() throws IOException {
+        if (this.compressed != null) {
+            this.compressed.write(this.bytes, 0, this.position);
+            this.position = 0;
+            return;
+        }
+        this.buffer.clear();
+        this.buffer.limit(this.position);
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.position = 0;
+    }
+
+    /**
+     * Método responsável por confirmar a gravação: os dados são forçados para o disco, o arquivo
+     * temporário substitui o arquivo de destino e, por fim, o diretório é forçado para o disco, de modo
+     * que a substituição sobreviva a uma queda do sistema logo após a renomeação.
+     * @throws IOException Caso ocorra falha de gravação ou de renomeação do arquivo.
+     */
+    public void commit() throws IOException {
+        this.flush();
+        if (this.compressed != null) {
+            this.compressed.close();        //AGUARDA A COMPRESSÃO E GRAVA O FINAL DO FORMATO
+        }
+        this.channel.force(false);
+        this.size = this.channel.size();
+        this.channel.close();
+        try {
+            Files.move(this.temporary, this.target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(this.temporary, this.target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(this.target.toAbsolutePath().getParent());
+        this.nanos = System.nanoTime() - this.start;
+        this.committed = true;
+    }
+
+    /**
+     * Método responsável por forçar para o disco as entradas de determinado diretório, tornando durável a
+     * renomeação nele efetuada. Em sistemas que não permitem abrir diretórios como canais (como o Windows),
+     * nada é feito, e a durabilidade da renomeação passa a depender do sistema de arquivos.
+     * @param directory Refere-se ao diretório.
+     * @throws IOException Caso o diretório tenha sido aberto mas não possa ser forçado para o disco.
+     */
+    private static void forceDirectory(final Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (final IOException exception) {
+            return;                                 //O SISTEMA NÃO PERMITE ABRIR DIRETÓRIOS
+        }
+        try {
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Método responsável por fechar o arquivo, descartando o arquivo temporário caso a gravação não tenha
+     * sido confirmada.
+     * @throws IOException Caso não seja possível descartar o arquivo temporário.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.committed) {
+            try {
+                if (this.compressed != null) {
+                    this.compressed.close();
+                }
+            } finally {
+                try {
+                    this.channel.close();
+                } finally {
+                    Files.deleteIfExists(this.temporary);
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de linhas gravadas.
+     * @return Retorna quantidade de linhas.
+     */
+    public long getLines() {
+        return this.lines;
+    }
+
+    /**
+     * Método responsável por retornar o tamanho, em bytes, do arquivo gravado.
+     * @return Retorna tamanho do arquivo ou zero caso a gravação não tenha sido confirmada.
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Método responsável por retornar o tempo decorrido entre a criação do arquivo temporário e a
+     * confirmação da gravação.
+     * @return Retorna tempo em nanossegundos ou zero caso a gravação não tenha sido confirmada.
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Classe responsável por gravar no canal do arquivo temporário os dados comprimidos. O canal não é
+     * fechado junto com o fluxo, pois ainda precisa ser forçado para o disco na confirmação.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+
+        /**
+         * Construtor responsável por inicializar o fluxo sobre determinado canal.
+         * @param channel Refere-se ao canal.
+         */
+        private ChannelOutputStream(final FileChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Método responsável por gravar determinado byte.
+         * @param value         Refere-se ao byte.
+         * @throws IOException  Caso ocorra falha de gravação no arquivo.
+         */
+        @Override
+        public void write(final int value) throws IOException {
+            this.write(new byte[]{(byte) value}, 0, 1);
+        }
+
+        /**
+         * Método responsável por gravar determinado intervalo de bytes.
+         * @param bytes         Refere-se aos bytes.
+         * @param offset        Refere-se a posição inicial do intervalo.
+         * @param length        Refere-se a quantidade de bytes do intervalo.
+         * @throws IOException  Caso ocorra falha de gravação no arquivo.
+         */
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            final ByteBuffer source = ByteBuffer.wrap(bytes, offset, length);
+            while (source.hasRemaining()) {
+                this.channel.write(source);
+            }
+        }
+
+    }
+
+}
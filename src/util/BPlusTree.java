@@ -0,0 +1,721 @@
+package util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Classe responsável por comportar-se como uma árvore B+ de chaves inteiras. Cada página armazena dezenas
+ * de chaves ordenadas, de modo que uma busca visita poucas páginas, e as folhas são encadeadas entre si,
+ * fazendo com que percursos em ordem e por intervalo sejam sequenciais. As páginas internas guardam a
+ * quantidade de elementos de cada filho, permitindo consultas por posição em tempo logarítmico.
+ * Páginas que ficam com menos da metade da capacidade após uma remoção recebem uma entrada de uma página
+ * vizinha ou, caso a vizinha também esteja no mínimo, são fundidas a ela, de modo que a quantidade de páginas
+ * e a altura da árvore permanecem proporcionais a quantidade de chaves presentes.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore irá armazenar.
+ */
+public class BPlusTree<E> implements KeyedTree<E> {
+    private static final int DEFAULT_ORDER = 64;
+    private final int order;
+    private Page root;
+    private Leaf first;
+    private int size;
+    private E oldElement;
+    private E newElement;
+    private int sizeDelta;
+    private int splitKey;
+
+    /**
+     * Construtor responsável por inicializar a árvore com a quantidade padrão de chaves por página.
+     */
+    public BPlusTree() {
+        this(DEFAULT_ORDER);
+    }
+
+    /**
+     * Construtor responsável por inicializar a árvore com determinada quantidade de chaves por página.
+     * @param order Refere-se a quantidade máxima de chaves de cada página (no mínimo 3).
+     */
+    public BPlusTree(final int order) {
+        this.order = Math.max(order, 3);
+        this.clear();
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    @Override
+    public void clear() {
+        this.first = new Leaf(this.order);
+        this.root = this.first;
+        this.size = 0;
+    }
+
+    /**
+     * Método responsável por retornar a posição de determinada chave em um vetor ordenado, ou a posição onde
+     * deveria ser inserida, codificada como em Arrays.binarySearch.
+     * @param page  Refere-se a página cujas chaves serão pesquisadas.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave.
+     */
+    private static int find(final Page page, final int key) {
+        return Arrays.binarySearch(page.keys, 0, page.keyCount(), key);
+    }
+
+    /**
+     * Método responsável por retornar o índice do filho de determinada página interna que pode conter a chave.
+     * @param branch    Refere-se a página interna.
+     * @param key       Refere-se a chave.
+     * @return          Retorna índice do filho.
+     */
+    private static int childIndex(final Branch branch, final int key) {
+        final int position = find(branch, key);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    /**
+     * Método responsável por recalcular o elemento de determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que recebe a chave e o elemento atual (ou nulo) e retorna o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public E compute(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        this.update(key, remappingFunction);
+        return this.newElement;
+    }
+
+    /**
+     * Método responsável por remover elementos da árvore, percorrendo-a uma única vez.
+     * @param key   Refere-se a achave do elemento.
+     * @return      Retorna elemento removido ou nulo caso a chave não exista.
+     */
+    @Override
+    public E remove(final int key) {
+        this.update(key, (currentKey, currentElement) -> null);
+        return this.oldElement;
+    }
+
+    /**
+     * Método responsável por aplicar determinada alteração na árvore em uma única descida, dividindo a raiz
+     * quando ela transbordar e descartando-a quando restar apenas um filho (após fusões).
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     */
+    private void update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        this.oldElement = null;
+        this.newElement = null;
+        this.sizeDelta = 0;
+        final Page sibling = this.update(key, remappingFunction, this.root);
+        this.size += this.sizeDelta;
+        if (sibling != null) {
+            final Branch branch = new Branch(this.order);
+            branch.children[0] = this.root;
+            branch.sizes[0] = this.root.elementCount();
+            branch.children[1] = sibling;
+            branch.sizes[1] = sibling.elementCount();
+            branch.keys[0] = this.splitKey;
+            branch.count = 2;
+            this.root = branch;
+        } else if (this.root instanceof Branch) {
+            if (this.root.count == 0) {
+                this.clear();
+            }
+            while (this.root instanceof Branch && this.root.count == 1) {
+                this.root = ((Branch) this.root).children[0];
+            }
+        }
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por aplicar determinada alteração em uma página.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     * @param page                  Refere-se a página que pode conter a chave.
+     * @return                      Retorna nova página irmã caso a página tenha sido dividida ou nulo caso contrário.
+     */
+    private Page update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction, final Page page) {
+        if (page instanceof Leaf) {
+            return this.update(key, remappingFunction, (Leaf) page);
+        }
+        final Branch branch = (Branch) page;
+        final int index = childIndex(branch, key);
+        final Page child = branch.children[index];
+        final Page sibling = this.update(key, remappingFunction, child);
+        branch.sizes[index] += this.sizeDelta;
+        if (sibling != null) {
+            final int siblingSize = sibling.elementCount();
+            branch.sizes[index] -= siblingSize;
+            branch.insertChild(index + 1, this.splitKey, sibling, siblingSize);
+            if (branch.keyCount() > this.order) {
+                return this.split(branch);
+            }
+        } else if (this.sizeDelta < 0 && child.count < this.minimum(child)) {
+            this.rebalance(branch, index);
+        }
+        return null;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade mínima de entradas (chaves nas folhas e filhos nas páginas
+     * internas) de determinada página, exceto a raiz. Duas páginas vizinhas, uma abaixo do mínimo e outra no
+     * mínimo, sempre cabem em uma única página.
+     * @param page  Refere-se a página.
+     * @return      Retorna quantidade mínima de entradas.
+     */
+    private int minimum(final Page page) {
+        return page instanceof Leaf ? (this.order + 1) / 2 : (this.order + 2) / 2;
+    }
+
+    /**
+     * Método responsável por completar determinado filho que ficou abaixo do mínimo, movendo para ele uma entrada
+     * de um filho vizinho ou, caso o vizinho não possa cedê-la, fundindo os dois filhos.
+     * @param branch    Refere-se a página interna.
+     * @param index     Refere-se ao índice do filho abaixo do mínimo.
+     */
+    private void rebalance(final Branch branch, final int index) {
+        if (branch.count < 2) {                                 //SEM VIZINHOS, A PÁGINA SUPERIOR TRATARÁ A FALTA
+            return;
+        }
+        final int left = index > 0 ? index - 1 : index;        //O FILHO É COMPLETADO PELO VIZINHO ESQUERDO, SE HOUVER
+        final Page neighbour = branch.children[left == index ? index + 1 : left];
+        if (neighbour.count <= this.minimum(neighbour)) {
+            this.merge(branch, left);
+        } else if (left < index) {
+            this.moveRight(branch, left);
+        } else {
+            this.moveLeft(branch, left);
+        }
+    }
+
+    /**
+     * Método responsável por mover a última entrada de determinado filho para o início do filho seguinte.
+     * @param branch    Refere-se a página interna.
+     * @param index     Refere-se ao índice do filho que cede a entrada.
+     */
+    private void moveRight(final Branch branch, final int index) {
+        final int moved;
+        if (branch.children[index] instanceof Leaf) {
+            final Leaf from = (Leaf) branch.children[index];
+            final Leaf to = (Leaf) branch.children[index + 1];
+            to.insertAt(0, from.keys[from.count - 1], from.elements[from.count - 1]);
+            from.removeAt(from.count - 1);
+            branch.keys[index] = to.keys[0];
+            moved = 1;
+        } else {
+            final Branch from = (Branch) branch.children[index];
+            final Branch to = (Branch) branch.children[index + 1];
+            moved = from.sizes[from.count - 1];
+            System.arraycopy(to.children, 0, to.children, 1, to.count);
+            System.arraycopy(to.sizes, 0, to.sizes, 1, to.count);
+            System.arraycopy(to.keys, 0, to.keys, 1, to.count - 1);
+            to.children[0] = from.children[from.count - 1];     //A CHAVE SEPARADORA DESCE E A ÚLTIMA CHAVE CEDIDA SOBE
+            to.sizes[0] = moved;
+            to.keys[0] = branch.keys[index];
+            to.count++;
+            branch.keys[index] = from.keys[from.count - 2];
+            from.removeChild(from.count - 1);
+        }
+        branch.sizes[index] -= moved;
+        branch.sizes[index + 1] += moved;
+    }
+
+    /**
+     * Método responsável por mover a primeira entrada do filho seguinte para o fim de determinado filho.
+     * @param branch    Refere-se a página interna.
+     * @param index     Refere-se ao índice do filho que recebe a entrada.
+     */
+    private void moveLeft(final Branch branch, final int index) {
+        final int moved;
+        if (branch.children[index] instanceof Leaf) {
+            final Leaf to = (Leaf) branch.children[index];
+            final Leaf from = (Leaf) branch.children[index + 1];
+            to.insertAt(to.count, from.keys[0], from.elements[0]);
+            from.removeAt(0);
+            branch.keys[index] = from.keys[0];
+            moved = 1;
+        } else {
+            final Branch to = (Branch) branch.children[index];
+            final Branch from = (Branch) branch.children[index + 1];
+            moved = from.sizes[0];
+            to.insertChild(to.count, branch.keys[index], from.children[0], moved);
+            branch.keys[index] = from.keys[0];
+            from.removeChild(0);
+        }
+        branch.sizes[index] += moved;
+        branch.sizes[index + 1] -= moved;
+    }
+
+    /**
+     * Método responsável por fundir o filho seguinte a determinado filho, descartando o filho seguinte e a chave
+     * separadora entre os dois.
+     * @param branch    Refere-se a página interna.
+     * @param index     Refere-se ao índice do filho que recebe as entradas.
+     */
+    private void merge(final Branch branch, final int index) {
+        if (branch.children[index] instanceof Leaf) {
+            final Leaf to = (Leaf) branch.children[index];
+            final Leaf from = (Leaf) branch.children[index + 1];
+            System.arraycopy(from.keys, 0, to.keys, to.count, from.count);
+            System.arraycopy(from.elements, 0, to.elements, to.count, from.count);
+            to.count += from.count;
+            this.unlink(from);
+        } else {
+            final Branch to = (Branch) branch.children[index];
+            final Branch from = (Branch) branch.children[index + 1];
+            to.keys[to.count - 1] = branch.keys[index];       //A CHAVE SEPARADORA DESCE PARA A PÁGINA FUNDIDA
+            System.arraycopy(from.keys, 0, to.keys, to.count, from.count - 1);
+            System.arraycopy(from.children, 0, to.children, to.count, from.count);
+            System.arraycopy(from.sizes, 0, to.sizes, to.count, from.count);
+            to.count += from.count;
+        }
+        branch.sizes[index] += branch.sizes[index + 1];
+        branch.removeChild(index + 1);
+    }
+
+    /**
+     * Método auxiliar responsável por aplicar determinada alteração em uma folha.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     * @param leaf                  Refere-se a folha que pode conter a chave.
+     * @return                      Retorna nova folha irmã caso a folha tenha sido dividida ou nulo caso contrário.
+     */
+    private Page update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction, final Leaf leaf) {
+        final int position = find(leaf, key);
+        if (position >= 0) {
+            this.oldElement = leaf.elementAt(position);
+            this.newElement = remappingFunction.apply(key, this.oldElement);
+            if (this.newElement != null) {
+                leaf.elements[position] = this.newElement;
+            } else {
+                leaf.removeAt(position);
+                this.sizeDelta = -1;
+            }
+            return null;
+        }
+        this.newElement = remappingFunction.apply(key, null);
+        if (this.newElement == null) {
+            return null;
+        }
+        leaf.insertAt(-position - 1, key, this.newElement);
+        this.sizeDelta = 1;
+        return leaf.count > this.order ? this.split(leaf) : null;
+    }
+
+    /**
+     * Método responsável por dividir uma folha cheia, movendo a metade superior para uma nova folha.
+     * @param leaf  Refere-se a folha que será dividida.
+     * @return      Retorna nova folha.
+     */
+    private Leaf split(final Leaf leaf) {
+        final Leaf sibling = new Leaf(this.order);
+        final int half = leaf.count / 2;
+        sibling.count = leaf.count - half;
+        System.arraycopy(leaf.keys, half, sibling.keys, 0, sibling.count);
+        System.arraycopy(leaf.elements, half, sibling.elements, 0, sibling.count);
+        Arrays.fill(leaf.elements, half, leaf.count, null);
+        leaf.count = half;
+        sibling.next = leaf.next;
+        sibling.previous = leaf;
+        if (leaf.next != null) {
+            leaf.next.previous = sibling;
+        }
+        leaf.next = sibling;
+        this.splitKey = sibling.keys[0];
+        return sibling;
+    }
+
+    /**
+     * Método responsável por dividir uma página interna cheia, promovendo a chave central.
+     * @param branch    Refere-se a página interna que será dividida.
+     * @return          Retorna nova página interna.
+     */
+    private Branch split(final Branch branch) {
+        final Branch sibling = new Branch(this.order);
+        final int half = branch.count / 2;
+        sibling.count = branch.count - half;
+        System.arraycopy(branch.children, half, sibling.children, 0, sibling.count);
+        System.arraycopy(branch.sizes, half, sibling.sizes, 0, sibling.count);
+        System.arraycopy(branch.keys, half, sibling.keys, 0, sibling.count - 1);
+        this.splitKey = branch.keys[half - 1];
+        Arrays.fill(branch.children, half, branch.count, null);
+        branch.count = half;
+        return sibling;
+    }
+
+    /**
+     * Método responsável por retirar uma folha fundida do encadeamento de folhas.
+     * @param page Refere-se a página fundida.
+     */
+    private void unlink(final Page page) {
+        if (page instanceof Leaf) {
+            final Leaf leaf = (Leaf) page;
+            if (leaf.previous != null) {
+                leaf.previous.next = leaf.next;
+            } else {
+                this.first = leaf.next;
+            }
+            if (leaf.next != null) {
+                leaf.next.previous = leaf.previous;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar a folha que pode conter determinada chave.
+     * @param key   Refere-se a chave.
+     * @return      Retorna folha.
+     */
+    private Leaf leafOf(final int key) {
+        Page page = this.root;
+        while (page instanceof Branch) {
+            final Branch branch = (Branch) page;
+            page = branch.children[childIndex(branch, key)];
+        }
+        return (Leaf) page;
+    }
+
+    /**
+     * Método responsável por efetuar buscas na árvore.
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna elemento.
+     */
+    @Override
+    public E search(final int key) {
+        final Leaf leaf = this.leafOf(key);
+        final int position = find(leaf, key);
+        return position >= 0 ? leaf.elementAt(position) : null;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Método responsável por retornar a maior chave da árvore.
+     * @return Retorna o maior valor de chave.
+     */
+    @Override
+    public int highestKey() {
+        if (this.size == 0) {
+            return -1;
+        }
+        Page page = this.root;
+        while (page instanceof Branch) {
+            page = ((Branch) page).children[page.count - 1];
+        }
+        return page.keys[page.count - 1];
+    }
+
+    /**
+     * Método responsável por retornar a menor chave da árvore.
+     * @return Retorna o menor valor de chave.
+     */
+    @Override
+    public int firstKey() {
+        return this.size == 0 ? -1 : this.first.keys[0];
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de chaves menores que determinada chave.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave, iniciando em zero.
+     */
+    @Override
+    public int rank(final int key) {
+        int rank = 0;
+        Page page = this.root;
+        while (page instanceof Branch) {
+            final Branch branch = (Branch) page;
+            final int index = childIndex(branch, key);
+            for (int i = 0; i < index; i++) {
+                rank += branch.sizes[i];
+            }
+            page = branch.children[index];
+        }
+        final int position = find(page, key);
+        return rank + (position >= 0 ? position : -position - 1);
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+     * @param index Refere-se a posição do elemento, iniciando em zero.
+     * @return      Retorna elemento ou nulo caso a posição seja inválida.
+     */
+    @Override
+    public E select(int index) {
+        if (index < 0 || index >= this.size) {
+            return null;
+        }
+        Page page = this.root;
+        while (page instanceof Branch) {
+            final Branch branch = (Branch) page;
+            int child = 0;
+            while (index >= branch.sizes[child]) {
+                index -= branch.sizes[child++];
+            }
+            page = branch.children[child];
+        }
+        return ((Leaf) page).elementAt(index);
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves estão em determinado intervalo, em ordem
+     * crescente de chave, percorrendo apenas as folhas do intervalo.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    @Override
+    public Iterable<E> subRange(final int fromKey, final int toKey) {
+        return () -> {
+            final Leaf leaf = this.leafOf(fromKey);
+            final int position = find(leaf, fromKey);
+            return new LeafIterator(leaf, position >= 0 ? position : -position - 1, toKey);
+        };
+    }
+
+    /**
+     * Método responsável por retornar iterador que percorre o encadeamento de folhas em ordem crescente de chave.
+     * @return Retorna iterador da árvore.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new LeafIterator(this.first, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Classe responsável por comportar-se como página da árvore B+.
+     * @author Everton Bruno Silva dos Santos
+     */
+    private abstract static class Page {
+        protected int[] keys;
+        protected int count;
+
+        /**
+         * Método responsável por retornar a quantidade de chaves da página.
+         * @return Retorna quantidade de chaves.
+         */
+        public abstract int keyCount();
+
+        /**
+         * Método responsável por retornar a quantidade de elementos armazenados abaixo da página.
+         * @return Retorna quantidade de elementos.
+         */
+        public abstract int elementCount();
+    }
+
+    /**
+     * Classe responsável por comportar-se como folha da árvore B+, armazenando chaves e elementos.
+     * @author Everton Bruno Silva dos Santos
+     */
+    private static final class Leaf extends Page {
+        private final Object[] elements;
+        private Leaf next;
+        private Leaf previous;
+
+        /**
+         * Construtor responsável por inicializar uma folha com determinada capacidade.
+         * @param order Refere-se a quantidade máxima de chaves da folha.
+         */
+        public Leaf(final int order) {
+            this.keys = new int[order + 1];
+            this.elements = new Object[order + 1];
+            this.count = 0;
+            this.next = null;
+            this.previous = null;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de chaves da página.
+         * @return Retorna quantidade de chaves.
+         */
+        @Override
+        public int keyCount() {
+            return this.count;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de elementos armazenados abaixo da página.
+         * @return Retorna quantidade de elementos.
+         */
+        @Override
+        public int elementCount() {
+            return this.count;
+        }
+
+        /**
+         * Método responsável por retornar o elemento de determinada posição da folha.
+         * @param position  Refere-se a posição.
+         * @param <E>       Refere-se ao tipo do elemento.
+         * @return          Retorna elemento.
+         */
+        @SuppressWarnings("unchecked")
+        public <E> E elementAt(final int position) {
+            return (E) this.elements[position];
+        }
+
+        /**
+         * Método responsável por inserir chave e elemento em determinada posição da folha.
+         * @param position  Refere-se a posição.
+         * @param key       Refere-se a chave.
+         * @param element   Refere-se ao elemento.
+         */
+        public void insertAt(final int position, final int key, final Object element) {
+            System.arraycopy(this.keys, position, this.keys, position + 1, this.count - position);
+            System.arraycopy(this.elements, position, this.elements, position + 1, this.count - position);
+            this.keys[position] = key;
+            this.elements[position] = element;
+            this.count++;
+        }
+
+        /**
+         * Método responsável por remover chave e elemento de determinada posição da folha.
+         * @param position Refere-se a posição.
+         */
+        public void removeAt(final int position) {
+            System.arraycopy(this.keys, position + 1, this.keys, position, this.count - position - 1);
+            System.arraycopy(this.elements, position + 1, this.elements, position, this.count - position - 1);
+            this.elements[--this.count] = null;
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como página interna da árvore B+, armazenando chaves separadoras,
+     * filhos e a quantidade de elementos de cada filho. O campo count indica a quantidade de filhos.
+     * @author Everton Bruno Silva dos Santos
+     */
+    private static final class Branch extends Page {
+        private final Page[] children;
+        private final int[] sizes;
+
+        /**
+         * Construtor responsável por inicializar uma página interna com determinada capacidade.
+         * @param order Refere-se a quantidade máxima de chaves da página.
+         */
+        public Branch(final int order) {
+            this.keys = new int[order + 1];
+            this.children = new Page[order + 2];
+            this.sizes = new int[order + 2];
+            this.count = 0;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de chaves da página.
+         * @return Retorna quantidade de chaves.
+         */
+        @Override
+        public int keyCount() {
+            return Math.max(this.count - 1, 0);
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de elementos armazenados abaixo da página.
+         * @return Retorna quantidade de elementos.
+         */
+        @Override
+        public int elementCount() {
+            int elements = 0;
+            for (int i = 0; i < this.count; i++) {
+                elements += this.sizes[i];
+            }
+            return elements;
+        }
+
+        /**
+         * Método responsável por inserir um filho e sua chave separadora em determinada posição.
+         * @param index     Refere-se a posição do novo filho.
+         * @param key       Refere-se a menor chave do novo filho.
+         * @param child     Refere-se ao novo filho.
+         * @param size      Refere-se a quantidade de elementos do novo filho.
+         */
+        public void insertChild(final int index, final int key, final Page child, final int size) {
+            System.arraycopy(this.children, index, this.children, index + 1, this.count - index);
+            System.arraycopy(this.sizes, index, this.sizes, index + 1, this.count - index);
+            System.arraycopy(this.keys, index - 1, this.keys, index, this.count - index);
+            this.children[index] = child;
+            this.sizes[index] = size;
+            this.keys[index - 1] = key;
+            this.count++;
+        }
+
+        /**
+         * Método responsável por remover determinado filho e uma chave separadora adjacente.
+         * @param index Refere-se a posição do filho.
+         */
+        public void removeChild(final int index) {
+            System.arraycopy(this.children, index + 1, this.children, index, this.count - index - 1);
+            System.arraycopy(this.sizes, index + 1, this.sizes, index, this.count - index - 1);
+            final int key = Math.max(index - 1, 0);
+            if (this.count > 1) {
+                System.arraycopy(this.keys, key + 1, this.keys, key, this.count - key - 2);
+            }
+            this.children[--this.count] = null;
+        }
+    }
+
+    /**
+     * Classe responsável por percorrer o encadeamento de folhas a partir de determinada posição.
+     * @author Everton Bruno Silva dos Santos
+     */
+    private class LeafIterator implements Iterator<E> {
+        private final int toKey;
+        private Leaf leaf;
+        private int position;
+
+        /**
+         * Construtor responsável por inicializar o iterador.
+         * @param leaf      Refere-se a folha inicial.
+         * @param position  Refere-se a posição inicial na folha.
+         * @param toKey     Refere-se a maior chave a ser percorrida (inclusiva).
+         */
+        public LeafIterator(final Leaf leaf, final int position, final int toKey) {
+            this.toKey = toKey;
+            this.leaf = leaf;
+            this.position = position;
+            this.skipExhaustedLeaves();
+        }
+
+        /**
+         * Método responsável por avançar para a próxima folha que ainda tenha chaves a percorrer.
+         */
+        private void skipExhaustedLeaves() {
+            while (this.leaf != null && this.position >= this.leaf.count) {
+                this.leaf = this.leaf.next;
+                this.position = 0;
+            }
+        }
+
+        /**
+         * Método responsável por retornar dado boleano que indica se ainda há elementos a percorrer.
+         * @return Retorna dado boleano.
+         */
+        @Override
+        public boolean hasNext() {
+            return this.leaf != null && this.leaf.keys[this.position] <= this.toKey;
+        }
+
+        /**
+         * Método responsável por retornar o próximo elemento em ordem de chave.
+         * @return Retorna próximo elemento.
+         */
+        @Override
+        public E next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final E element = this.leaf.elementAt(this.position++);
+            this.skipExhaustedLeaves();
+            return element;
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package util;
+
+import model.Ebook;
+
+/**
+ * Interface responsável por receber as alterações feitas no catálogo de um EbookTreeStream, permitindo que
+ * estruturas derivadas (como índices) sejam mantidas em sincronia sem percorrer o catálogo a cada alteração.
+ * A substituição de um ebook é notificada como a remoção do antigo seguida da inserção do novo.
+ * @author Everton Bruno Silva dos Santos
+ */
+public interface CatalogListener {
+
+    /**
+     * Método responsável por receber a notificação de que determinado ebook foi inserido no catálogo.
+     * @param ebook Refere-se ao ebook inserido.
+     */
+    void inserted(Ebook ebook);
+
+    /**
+     * Método responsável por receber a notificação de que determinado ebook foi removido do catálogo.
+     * @param ebook Refere-se ao ebook removido.
+     */
+    void removed(Ebook ebook);
+
+    /**
+     * Método responsável por receber a notificação de que todo o conteúdo do catálogo foi substituído
+     * (por uma carga completa ou por seu esvaziamento), devendo as estruturas derivadas ser reconstruídas.
+     * @param catalog Refere-se ao catálogo já com seu novo conteúdo.
+     */
+    void loaded(KeyedTree<Ebook> catalog);
+
+}
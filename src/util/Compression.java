@@ -0,0 +1,136 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Enumeração responsável por representar os formatos de compressão aceitos nos arquivos de catálogo.
+ * Na leitura, o formato é reconhecido pelos primeiros bytes do arquivo; na gravação, pela extensão.
+ * @author Everton Bruno Silva dos Santos
+ */
+public enum Compression {
+    NONE(""),
+    GZIP(".gz"),
+    DEFLATE(".deflate");
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final String extension;
+
+    /**
+     * Construtor responsável por inicializar o formato com sua extensão de arquivo.
+     * @param extension Refere-se a extensão dos arquivos no formato.
+     */
+    private Compression(final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Método responsável por retornar a extensão dos arquivos no formato.
+     * @return Retorna extensão, vazia caso não haja compressão.
+     */
+    public String getExtension() {
+        return this.extension;
+    }
+
+    /**
+     * Método responsável por retornar o formato correspondente a extensão de determinado arquivo.
+     * @param fileName  Refere-se ao nome do arquivo.
+     * @return          Retorna formato de compressão ou NONE caso a extensão não indique compressão.
+     */
+    public static Compression of(final String fileName) {
+        if (fileName.endsWith(GZIP.extension)) {
+            return GZIP;
+        } else if (fileName.endsWith(DEFLATE.extension)) {
+            return DEFLATE;
+        }
+        return NONE;
+    }
+
+    /**
+     * Método responsável por reconhecer o formato de determinado arquivo a partir de seus primeiros bytes,
+     * sem alterar a posição do canal. São reconhecidos o cabeçalho gzip e o cabeçalho zlib gerado por
+     * Deflater (janela de 32 KB, sem dicionário predefinido).
+     * @param channel       Refere-se ao canal do arquivo.
+     * @return              Retorna formato de compressão ou NONE caso o arquivo não esteja comprimido.
+     * @throws IOException  Caso ocorra falha de leitura no arquivo.
+     */
+    public static Compression detect(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(2);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return NONE;
+            }
+        }
+        final int first = header.get(0) & 0xFF;
+        final int second = header.get(1) & 0xFF;
+        if (first == 0x1F && second == 0x8B) {
+            return GZIP;
+        } else if (first == 0x78 && ((first << 8) | second) % 31 == 0 && (second & 0x20) == 0) {
+            return DEFLATE;
+        }
+        return NONE;
+    }
+
+    /**
+     * Método responsável por envolver determinado fluxo de leitura de modo que seus dados sejam descomprimidos.
+     * @param inputStream   Refere-se ao fluxo com os dados comprimidos.
+     * @return              Retorna fluxo com os dados descomprimidos.
+     * @throws IOException  Caso o cabeçalho do fluxo seja inválido.
+     */
+    public InputStream decompress(final InputStream inputStream) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPInputStream(inputStream, BUFFER_SIZE);
+            case DEFLATE:
+                return new InflaterInputStream(inputStream, new Inflater(), BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            inf.end();      //LIBERA A MEMÓRIA NATIVA DO DESCOMPRESSOR
+                        }
+                    }
+                };
+            default:
+                return inputStream;
+        }
+    }
+
+    /**
+     * Método responsável por envolver determinado fluxo de gravação de modo que seus dados sejam comprimidos.
+     * Ao concluir, o fluxo retornado deve ser fechado para gravar o final do formato.
+     * @param outputStream  Refere-se ao fluxo que receberá os dados comprimidos.
+     * @return              Retorna fluxo que comprime os dados.
+     * @throws IOException  Caso não seja possível gravar o cabeçalho do formato.
+     */
+    public DeflaterOutputStream compress(final OutputStream outputStream) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+            case DEFLATE:
+                return new DeflaterOutputStream(outputStream, new Deflater(), BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            def.end();      //LIBERA A MEMÓRIA NATIVA DO COMPRESSOR
+                        }
+                    }
+                };
+            default:
+                throw new IllegalStateException("Formato sem compressão.");
+        }
+    }
+
+}
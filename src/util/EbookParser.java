@@ -0,0 +1,205 @@
+package util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import model.Ebook;
+
+/**
+ * Classe responsável por converter em ebooks as linhas de um arquivo de catálogo (campos separados por
+ * ponto e vírgula e codificados em UTF-8) lidas diretamente em bytes de um canal. Os delimitadores são
+ * localizados e os campos numéricos são convertidos sobre o próprio buffer, de modo que apenas as strings
+ * finais de cada ebook são criadas. Linhas vazias são ignoradas.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class EbookParser {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer;
+    private byte[] bytes;
+    private int position;
+    private int limit;
+    private long unread;
+    private boolean endOfStream;
+
+    /**
+     * Construtor responsável por inicializar o conversor a partir de determinado canal de leitura.
+     * @param channel Refere-se ao canal de onde os bytes do catálogo serão lidos.
+     */
+    public EbookParser(final ReadableByteChannel channel) {
+        this(channel, Long.MAX_VALUE);
+    }
+
+    /**
+     * Construtor responsável por inicializar o conversor limitado a determinada quantidade de bytes do
+     * canal, a partir de sua posição atual. Destina-se a leitura de trechos de um arquivo.
+     * @param channel   Refere-se ao canal de onde os bytes do catálogo serão lidos.
+     * @param length    Refere-se a quantidade máxima de bytes que serão lidos.
+     */
+    public EbookParser(final ReadableByteChannel channel, final long length) {
+        this.channel = channel;
+        this.bytes = new byte[BUFFER_SIZE];
+        this.buffer = ByteBuffer.wrap(this.bytes);
+        this.position = 0;
+        this.limit = 0;
+        this.unread = length;
+        this.endOfStream = false;
+    }
+
+    /**
+     * Método responsável por ler e converter a próxima linha do catálogo.
+     * @return Retorna próximo ebook ou nulo caso não haja mais linhas.
+     * @throws IOException Caso ocorra falha de leitura no canal.
+     * @throws IllegalArgumentException Caso a linha não contenha todos os campos ou algum campo numérico seja inválido.
+     */
+    public Ebook next() throws IOException {
+        int scan = this.position;
+        while (true) {
+            int end = this.indexOf((byte) '\n', scan, this.limit);
+            if (end < 0) {
+                if (!this.endOfStream) {
+                    scan = this.limit - this.position;
+                    this.fill();
+                    continue;
+                } else if (this.position == this.limit) {
+                    return null;
+                }
+                end = this.limit;
+            }
+            final int start = this.position;
+            this.position = Math.min(end + 1, this.limit);
+            scan = this.position;
+            final int lineEnd = end > start && this.bytes[end - 1] == '\r' ? end - 1 : end;
+            if (lineEnd > start) {
+                return this.parse(start, lineEnd);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por preservar os bytes ainda não consumidos no início do buffer e completá-lo
+     * com novos bytes do canal. Caso uma linha não caiba no buffer, sua capacidade é dobrada.
+     * @throws IOException Caso ocorra falha de leitura no canal.
+     */
+    private void fill() throws IOException {
+        final int remaining = this.limit - this.position;
+        if (remaining == this.bytes.length) {
+            final byte[] bigger = new byte[this.bytes.length << 1];
+            System.arraycopy(this.bytes, this.position, bigger, 0, remaining);
+            this.bytes = bigger;
+            this.buffer = ByteBuffer.wrap(this.bytes);
+        } else if (this.position > 0) {
+            System.arraycopy(this.bytes, this.position, this.bytes, 0, remaining);
+        }
+        this.position = 0;
+        this.limit = remaining;
+        if (this.unread == 0) {
+            this.endOfStream = true;
+            return;
+        }
+        this.buffer.clear();
+        this.buffer.limit((int) Math.min(this.bytes.length, this.limit + this.unread));
+        this.buffer.position(this.limit);
+        int read;
+        do {
+            read = this.channel.read(this.buffer);
+        } while (read == 0 && this.buffer.hasRemaining());
+        if (read < 0) {
+            this.endOfStream = true;
+        } else {
+            this.unread -= this.buffer.position() - this.limit;
+            this.limit = this.buffer.position();
+        }
+    }
+
+    /**
+     * Método responsável por converter em ebook determinada linha contida no buffer.
+     * @param start Refere-se a posição inicial da linha.
+     * @param end   Refere-se a posição final da linha (exclusiva), já sem quebra de linha.
+     * @return      Retorna ebook correspondente a linha.
+     */
+    private Ebook parse(final int start, final int end) {
+        final int numberEnd = this.delimiter(start, end);
+        final int titleEnd = this.delimiter(numberEnd + 1, end);
+        final int authorEnd = this.delimiter(titleEnd + 1, end);
+        final int monthEnd = this.delimiter(authorEnd + 1, end);
+        final int yearEnd = this.delimiter(monthEnd + 1, end);
+        final int urlEnd = this.indexOf((byte) ';', yearEnd + 1, end);
+        return new Ebook(this.parseInt(start, numberEnd),
+                this.toString(numberEnd + 1, titleEnd),
+                this.toString(titleEnd + 1, authorEnd),
+                this.toString(authorEnd + 1, monthEnd),
+                this.parseInt(monthEnd + 1, yearEnd),
+                this.toString(yearEnd + 1, urlEnd < 0 ? end : urlEnd));
+    }
+
+    /**
+     * Método responsável por localizar o delimitador que encerra um campo obrigatório.
+     * @param from  Refere-se a posição inicial do campo.
+     * @param end   Refere-se ao fim da linha.
+     * @return      Retorna posição do delimitador.
+     */
+    private int delimiter(final int from, final int end) {
+        final int index = this.indexOf((byte) ';', from, end);
+        if (index < 0) {
+            throw new IllegalArgumentException("Linha incompleta: " + this.toString(from, end));
+        }
+        return index;
+    }
+
+    /**
+     * Método responsável por localizar determinado byte em um intervalo do buffer.
+     * @param value Refere-se ao byte procurado.
+     * @param from  Refere-se a posição inicial do intervalo.
+     * @param to    Refere-se a posição final do intervalo (exclusiva).
+     * @return      Retorna posição do byte ou -1 caso não seja encontrado.
+     */
+    private int indexOf(final byte value, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (this.bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Método responsável por converter em inteiro os dígitos decimais de um intervalo do buffer, aceitando
+     * sinal inicial tal como Integer.parseInt, sem criar strings intermediárias.
+     * @param from  Refere-se a posição inicial do campo.
+     * @param to    Refere-se a posição final do campo (exclusiva).
+     * @return      Retorna valor inteiro do campo.
+     */
+    private int parseInt(final int from, final int to) {
+        int index = from;
+        final boolean negative = index < to && this.bytes[index] == '-';
+        if (index < to && (this.bytes[index] == '-' || this.bytes[index] == '+')) {
+            index++;
+        }
+        if (index == to) {
+            throw new NumberFormatException("Número inválido: \"" + this.toString(from, to) + "\"");
+        }
+        final int limitValue = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (; index < to; index++) {
+            final int digit = this.bytes[index] - '0';
+            if (digit < 0 || digit > 9 || result < limitValue / 10 || result * 10 < limitValue + digit) {
+                throw new NumberFormatException("Número inválido: \"" + this.toString(from, to) + "\"");
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Método responsável por decodificar em string um intervalo do buffer.
+     * @param from  Refere-se a posição inicial do campo.
+     * @param to    Refere-se a posição final do campo (exclusiva).
+     * @return      Retorna string do campo.
+     */
+    private String toString(final int from, final int to) {
+        return new String(this.bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,247 @@
+package util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import model.Ebook;
+
+/**
+ * Classe responsável por ler e gravar o catálogo em formato binário compacto. O arquivo inicia com um
+ * cabeçalho fixo (identificador, versão do formato e quantidade de registros) seguido dos ebooks em ordem
+ * crescente de número, de modo que a leitura pode construir a árvore em tempo linear. Em cada registro,
+ * número e ano são gravados como inteiros de tamanho variável e os demais campos como bytes UTF-8
+ * precedidos de seu tamanho.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class EbookSnapshot {
+    public static final String EXTENSION = ".ebs";
+    private static final int MAGIC = 0x45424B53;
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 8;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Construtor responsável por inicializar a classe sobre determinado canal de arquivo.
+     * @param channel Refere-se ao canal do arquivo que será lido ou gravado.
+     */
+    public EbookSnapshot(final FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se determinado arquivo está no formato
+     * binário, a partir de seus primeiros bytes. A posição do canal não é alterada.
+     * @param channel       Refere-se ao canal do arquivo.
+     * @return              Retorna dado boleano.
+     * @throws IOException  Caso ocorra falha de leitura no arquivo.
+     */
+    public static boolean isSnapshot(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(4);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return false;
+            }
+        }
+        return header.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Método responsável por gravar os ebooks a partir da posição atual do canal.
+     * @param ebooks        Refere-se aos ebooks, em ordem crescente de número.
+     * @return              Retorna quantidade de ebooks gravados.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    public int write(final Iterable<Ebook> ebooks) throws IOException {
+        final long start = this.channel.position();
+        this.buffer.clear();
+        this.buffer.putInt(MAGIC).putInt(VERSION).putInt(0);
+        int count = 0;
+        for (final Ebook ebook : ebooks) {
+            this.putVarint(this.zigZag(ebook.getNumber()));
+            this.putVarint(this.zigZag(ebook.getYear()));
+            this.putString(ebook.getTitle());
+            this.putString(ebook.getAuthor());
+            this.putString(ebook.getMonth());
+            this.putString(ebook.getUrl());
+            count++;
+        }
+        this.flush();
+        final ByteBuffer header = ByteBuffer.allocate(4);
+        header.putInt(count).flip();
+        while (header.hasRemaining()) {     //A QUANTIDADE SÓ É CONHECIDA AO FIM DA GRAVAÇÃO
+            this.channel.write(header, start + COUNT_OFFSET + header.position());
+        }
+        return count;
+    }
+
+    /**
+     * Método responsável por ler os ebooks a partir da posição atual do canal.
+     * @return              Retorna ebooks na ordem em que foram gravados.
+     * @throws IOException  Caso o arquivo não esteja no formato esperado ou ocorra falha de leitura.
+     */
+    public List<Ebook> read() throws IOException {
+        this.buffer.clear().flip();
+        this.require(12);
+        if (this.buffer.getInt() != MAGIC) {
+            throw new IOException("Arquivo não está no formato binário do catálogo.");
+        }
+        final int version = this.buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Versão do formato binário não suportada: " + version);
+        }
+        final int count = this.buffer.getInt();
+        if (count < 0) {
+            throw new IOException("Quantidade de registros inválida: " + count);
+        }
+        final List<Ebook> ebooks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int number = this.unZigZag(this.getVarint());
+            final int year = this.unZigZag(this.getVarint());
+            final String title = this.getString();
+            final String author = this.getString();
+            final String month = this.getString();
+            final String url = this.getString();
+            ebooks.add(new Ebook(number, title, author, month, year, url));
+        }
+        return ebooks;
+    }
+
+    /**
+     * Método responsável por codificar um inteiro com sinal de forma que valores de pequena magnitude
+     * ocupem poucos bytes.
+     * @param value Refere-se ao valor.
+     * @return      Retorna valor codificado.
+     */
+    private int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Método responsável por decodificar um inteiro codificado por zigZag.
+     * @param value Refere-se ao valor codificado.
+     * @return      Retorna valor original.
+     */
+    private int unZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Método responsável por gravar um inteiro sem sinal em grupos de sete bits.
+     * @param value         Refere-se ao valor.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    private void putVarint(int value) throws IOException {
+        if (this.buffer.remaining() < 5) {
+            this.flush();
+        }
+        while ((value & ~0x7F) != 0) {
+            this.buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte) value);
+    }
+
+    /**
+     * Método responsável por gravar uma string em UTF-8 precedida de seu tamanho em bytes.
+     * @param string        Refere-se a string.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    private void putString(final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        this.putVarint(bytes.length);
+        if (bytes.length > this.buffer.remaining()) {
+            this.flush();
+        }
+        if (bytes.length > this.buffer.remaining()) {
+            final ByteBuffer large = ByteBuffer.wrap(bytes);
+            while (large.hasRemaining()) {
+                this.channel.write(large);
+            }
+        } else {
+            this.buffer.put(bytes);
+        }
+    }
+
+    /**
+     * Método responsável por gravar no arquivo os bytes acumulados no buffer.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Método responsável por garantir que determinada quantidade de bytes esteja disponível no buffer.
+     * @param length        Refere-se a quantidade de bytes, limitada a capacidade do buffer.
+     * @throws IOException  Caso o arquivo termine antes ou ocorra falha de leitura.
+     */
+    private void require(final int length) throws IOException {
+        if (this.buffer.remaining() >= length) {
+            return;
+        }
+        this.buffer.compact();
+        while (this.buffer.position() < length) {
+            if (this.channel.read(this.buffer) < 0) {
+                throw new EOFException("Arquivo binário do catálogo incompleto.");
+            }
+        }
+        this.buffer.flip();
+    }
+
+    /**
+     * Método responsável por ler um inteiro sem sinal gravado em grupos de sete bits.
+     * @return              Retorna valor lido.
+     * @throws IOException  Caso o valor seja inválido ou ocorra falha de leitura.
+     */
+    private int getVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            this.require(1);
+            final byte current = this.buffer.get();
+            value |= (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Inteiro inválido no arquivo binário do catálogo.");
+    }
+
+    /**
+     * Método responsável por ler uma string em UTF-8 precedida de seu tamanho em bytes.
+     * @return              Retorna string lida.
+     * @throws IOException  Caso o tamanho seja inválido ou ocorra falha de leitura.
+     */
+    private String getString() throws IOException {
+        final int length = this.getVarint();
+        if (length < 0) {
+            throw new IOException("Tamanho de campo inválido: " + length);
+        } else if (length <= this.buffer.capacity()) {
+            this.require(length);
+            final String string = new String(this.buffer.array(), this.buffer.position(), length, StandardCharsets.UTF_8);
+            this.buffer.position(this.buffer.position() + length);
+            return string;
+        }
+        final byte[] bytes = new byte[length];
+        final int buffered = this.buffer.remaining();
+        this.buffer.get(bytes, 0, buffered);
+        final ByteBuffer large = ByteBuffer.wrap(bytes, buffered, length - buffered);
+        while (large.hasRemaining()) {
+            if (this.channel.read(large) < 0) {
+                throw new EOFException("Arquivo binário do catálogo incompleto.");
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
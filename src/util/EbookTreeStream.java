@@ -1,94 +1,660 @@
 package util;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
 import model.Ebook;
 
 /**
  * Classe responsável por ler e gravar dados na memória de armazenamento, bem 
- * como comportar-se como uma árvore AVL.
+ * como comportar-se como uma árvore AVL. A árvore que de fato armazena os ebooks
+ * é escolhida na construção, podendo ser qualquer implementação de KeyedTree. Toda alteração feita por meio
+ * desta classe é notificada aos ouvintes registrados (vide CatalogListener).
  * @author Everton Bruno Silva dos Santos
  */
-public class EbookTreeStream extends Tree<Ebook> {
+public class EbookTreeStream implements KeyedTree<Ebook> {
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private final KeyedTree<Ebook> tree;
+    private final List<CatalogListener> listeners;
+    private long savedRecords;
+    private long savedBytes;
+    private long saveNanos;
 
     /**
-     * Construtor responsável por inicializar a classe.
+     * Construtor responsável por inicializar a classe utilizando uma árvore AVL de nós encadeados.
      */
     public EbookTreeStream() {
-        super();
+        this(new Tree<>());
     }
-        
+
+    /**
+     * Construtor responsável por inicializar a classe utilizando determinada árvore.
+     * @param tree Refere-se a árvore que irá armazenar os ebooks.
+     */
+    public EbookTreeStream(final KeyedTree<Ebook> tree) {
+        this.tree = tree;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.savedRecords = 0;
+        this.savedBytes = 0;
+        this.saveNanos = 0;
+    }
+
+    /**
+     * Método responsável por registrar determinado ouvinte das alterações feitas no catálogo.
+     * @param listener Refere-se ao ouvinte.
+     */
+    public void addCatalogListener(final CatalogListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Método responsável por cancelar o registro de determinado ouvinte das alterações feitas no catálogo.
+     * @param listener Refere-se ao ouvinte.
+     */
+    public void removeCatalogListener(final CatalogListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Método responsável por notificar aos ouvintes a troca do elemento de determinada chave.
+     * @param oldElement    Refere-se ao elemento anterior ou nulo caso a chave não existisse.
+     * @param newElement    Refere-se ao novo elemento ou nulo caso a chave tenha sido removida.
+     */
+    private void changed(final Ebook oldElement, final Ebook newElement) {
+        if (oldElement == newElement) {
+            return;
+        }
+        for (final CatalogListener listener : listeners) {
+            if (oldElement != null) {
+                listener.removed(oldElement);
+            }
+            if (newElement != null) {
+                listener.inserted(newElement);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por notificar aos ouvintes a substituição de todo o conteúdo da árvore.
+     */
+    private void loaded() {
+        for (final CatalogListener listener : listeners) {
+            listener.loaded(this);
+        }
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    @Override
+    public void clear() {
+        tree.clear();
+        this.loaded();
+    }
+
+    /**
+     * Método responsável por recalcular o elemento de determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que recebe a chave e o elemento atual (ou nulo) e retorna o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public Ebook compute(final int key, final BiFunction<Integer, ? super Ebook, ? extends Ebook> remappingFunction) {
+        final Ebook[] oldElement = new Ebook[1];
+        final Ebook newElement = tree.compute(key, (currentKey, currentElement) -> {
+            oldElement[0] = currentElement;
+            return remappingFunction.apply(currentKey, currentElement);
+        });
+        this.changed(oldElement[0], newElement);
+        return newElement;
+    }
+
+    /**
+     * Método responsável por efetuar buscas na árvore.
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna elemento.
+     */
+    @Override
+    public Ebook search(final int key) {
+        return tree.search(key);
+    }
+
+    /**
+     * Método responsável por remover elementos da árvore, percorrendo-a uma única vez.
+     * @param key   Refere-se a achave do elemento.
+     * @return      Retorna elemento removido ou nulo caso a chave não exista.
+     */
+    @Override
+    public Ebook remove(final int key) {
+        final Ebook oldElement = tree.remove(key);
+        this.changed(oldElement, null);
+        return oldElement;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos.
+     */
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
     /**
-     * Método responsável por ler arquivos de texto contidos na memória de armazenamento.
+     * Método responsável por retornar a maior chave da árvore.
+     * @return Retorna o maior valor de chave ou -1 caso a árvore esteja vazia.
+     */
+    @Override
+    public int highestKey() {
+        return tree.highestKey();
+    }
+
+    /**
+     * Método responsável por retornar a menor chave da árvore.
+     * @return Retorna o menor valor de chave ou -1 caso a árvore esteja vazia.
+     */
+    @Override
+    public int firstKey() {
+        return tree.firstKey();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de chaves menores que determinada chave.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave, iniciando em zero.
+     */
+    @Override
+    public int rank(final int key) {
+        return tree.rank(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+     * @param index Refere-se a posição do elemento, iniciando em zero.
+     * @return      Retorna elemento ou nulo caso a posição seja inválida.
+     */
+    @Override
+    public Ebook select(final int index) {
+        return tree.select(index);
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves estão em determinado intervalo, em ordem
+     * crescente de chave.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    @Override
+    public Iterable<Ebook> subRange(final int fromKey, final int toKey) {
+        return tree.subRange(fromKey, toKey);
+    }
+
+    /**
+     * Método responsável por substituir todo o conteúdo da árvore pelos elementos informados. Quando houver
+     * chaves repetidas, permanece o primeiro elemento de cada chave, tal como em inserções sucessivas.
+     * Implementações podem aproveitar entradas já ordenadas para construir a árvore em tempo linear.
+     * @param elements      Refere-se aos elementos, na ordem em que foram lidos.
+     * @param keyFunction   Refere-se a função que extrai a chave de cada elemento.
+     */
+    @Override
+    public void bulkLoad(final List<? extends Ebook> elements, final ToIntFunction<? super Ebook> keyFunction) {
+        tree.bulkLoad(elements, keyFunction);
+        this.loaded();
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se a árvore está vazia.
+     * @return Retorna dado boleano.
+     */
+    @Override
+    public boolean isEmpty() {
+        return tree.isEmpty();
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se a árvore detém determinado elemento
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna dado boleano.
+     */
+    @Override
+    public boolean isContains(final int key) {
+        return tree.isContains(key);
+    }
+
+    /**
+     * Método responsável por inserir novos elementos na árvore, desde que a chave ainda não exista.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @return          Retorna dado boleano que indica se o elemento foi inserido.
+     */
+    @Override
+    public boolean insert(final int key, final Ebook element) {
+        if (!tree.insert(key, element)) {
+            return false;
+        }
+        this.changed(null, element);
+        return true;
+    }
+
+    /**
+     * Método responsável por inserir um elemento caso a chave ainda não exista.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @return          Retorna elemento já associado a chave ou nulo caso o novo elemento tenha sido inserido.
+     */
+    @Override
+    public Ebook putIfAbsent(final int key, final Ebook element) {
+        final Ebook currentElement = tree.putIfAbsent(key, element);
+        if (currentElement == null) {
+            this.changed(null, element);
+        }
+        return currentElement;
+    }
+
+    /**
+     * Método responsável por inserir ou substituir um elemento.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao novo elemento.
+     * @return          Retorna elemento substituído ou nulo caso a chave não existisse.
+     */
+    @Override
+    public Ebook put(final int key, final Ebook element) {
+        final Ebook oldElement = tree.put(key, element);
+        this.changed(oldElement, element);
+        return oldElement;
+    }
+
+    /**
+     * Método responsável por combinar um elemento ao já existente em determinada chave.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param element               Refere-se ao elemento que será inserido caso a chave não exista.
+     * @param remappingFunction     Refere-se a função que combina o elemento atual com o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public Ebook merge(final int key, final Ebook element, final BiFunction<? super Ebook, ? super Ebook, ? extends Ebook> remappingFunction) {
+        return this.compute(key, (currentKey, currentElement) -> currentElement == null ? element
+                : remappingFunction.apply(currentElement, element));
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public Ebook floor(final int key) {
+        return tree.floor(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public Ebook ceiling(final int key) {
+        return tree.ceiling(key);
+    }
+
+    /**
+     * Método responsável por retornar iterador que percorre os elementos da árvore em ordem crescente de chave
+     * sem recursão, podendo ser interrompido a qualquer momento.
+     * @return Retorna iterador da árvore.
+     */
+    @Override
+    public Iterator<Ebook> iterator() {
+        return tree.iterator();
+    }
+
+    /**
+     * Método responsável por retornar divisor que reparte a árvore em subárvores, permitindo o processamento paralelo.
+     * @return Retorna divisor da árvore.
+     */
+    @Override
+    public Spliterator<Ebook> spliterator() {
+        return tree.spliterator();
+    }
+
+    /**
+     * Método responsável por ler arquivos de texto contidos na memória de armazenamento. Os bytes do
+     * arquivo são convertidos diretamente em ebooks, sem leitura intermediária de linhas. Arquivos no
+     * formato binário de EbookSnapshot e arquivos comprimidos (vide Compression) são reconhecidos
+     * automaticamente.
      * @param fileName Refere-se ao nome do arquivo de texto a ser lido.
      * @return Retorna resultado da operação.
      */
     public boolean loadFromFile(final String fileName) {
-        super.clear();
-        try (BufferedReader fileStream = new BufferedReader(new InputStreamReader(new FileInputStream(fileName)))) {
-            fileStream.lines().forEach((line) -> {
-                super.insert(Integer.parseInt(line.split(";")[0]), toEbook(line));
-            });
-        } catch (final FileNotFoundException exception) {
-            return false;
-        } catch (final IOException exception) {
+        return this.loadFromFile(fileName, 1);
+    }
+
+    /**
+     * Método responsável por ler arquivos de texto contidos na memória de armazenamento em paralelo. O
+     * arquivo é dividido em trechos terminados em quebras de linha, cada trecho é convertido por uma
+     * tarefa distinta e os resultados são reunidos na ordem do arquivo antes de construir a árvore, de
+     * modo que o resultado é idêntico ao da leitura sequencial (inclusive quanto as chaves repetidas).
+     * Arquivos pequenos são lidos em um único trecho e arquivos no formato binário de EbookSnapshot são
+     * reconhecidos automaticamente. Arquivos comprimidos (vide Compression) são lidos sequencialmente, com a
+     * descompressão executada em paralelo com a conversão.
+     * @param fileName      Refere-se ao nome do arquivo de texto a ser lido.
+     * @param parallelism   Refere-se a quantidade máxima de trechos convertidos simultaneamente.
+     * @return Retorna resultado da operação.
+     */
+    public boolean loadFromFile(final String fileName, final int parallelism) {
+        return this.load(this.read(fileName, parallelism, false));
+    }
+
+    /**
+     * Método responsável por carregar um arquivo de texto em modo mapeado: o arquivo é mapeado em memória e
+     * a árvore armazena apenas o número e a posição de cada ebook, cujos demais dados são decodificados do
+     * arquivo somente quando consultados (vide MappedEbook). Arquivos no formato binário de EbookSnapshot
+     * e arquivos comprimidos são carregados por completo, como em loadFromFile.
+     * @param fileName Refere-se ao nome do arquivo de texto a ser mapeado.
+     * @return Retorna resultado da operação.
+     */
+    public boolean mapFromFile(final String fileName) {
+        return this.load(this.read(fileName, 1, true));
+    }
+
+    /**
+     * Método responsável por ler um arquivo sem alterar a árvore, retornando seu conteúdo em uma nova árvore.
+     * O arquivo é lido tal como em loadFromFile ou, em modo mapeado, tal como em mapFromFile. Em conjunto com
+     * synchronize, permite recarregar um arquivo alterado aplicando a árvore apenas as diferenças.
+     * @param fileName      Refere-se ao nome do arquivo a ser lido.
+     * @param parallelism   Refere-se a quantidade máxima de trechos convertidos simultaneamente.
+     * @param mapped        Refere-se ao indicador de que o arquivo deve ser lido em modo mapeado.
+     * @return              Retorna árvore com o conteúdo do arquivo ou nulo caso a leitura falhe.
+     */
+    public KeyedTree<Ebook> readFromFile(final String fileName, final int parallelism, final boolean mapped) {
+        final List<? extends Ebook> ebooks = this.read(fileName, parallelism, mapped);
+        if (ebooks == null) {
+            return null;
+        }
+        final KeyedTree<Ebook> catalog = new Tree<>();
+        catalog.bulkLoad(ebooks, Ebook::getNumber);
+        return catalog;
+    }
+
+    /**
+     * Método responsável por tornar o conteúdo da árvore igual ao de determinado catálogo, alterando apenas os
+     * ebooks que diferem. Os dois são percorridos uma única vez em ordem de número: ebooks ausentes do catálogo
+     * são removidos, ebooks novos são inseridos e ebooks cujos dados mudaram são substituídos. Assim, as
+     * alterações na árvore (e as notificações aos ouvintes) são proporcionais a quantidade de diferenças, e
+     * não ao tamanho do catálogo. Os ebooks atuais precisam refletir o conteúdo anterior: ebooks mapeados de um
+     * arquivo alterado no mesmo local já não o refletem (vide MappedEbook), e nesse caso o conteúdo deve ser
+     * substituído por completo (vide bulkLoad).
+     * @param catalog   Refere-se ao catálogo de referência, em ordem crescente de número e sem números repetidos.
+     * @return          Retorna quantidade de ebooks inseridos, removidos ou substituídos.
+     */
+    public int synchronize(final Iterable<? extends Ebook> catalog) {
+        final List<Ebook> removals = new ArrayList<>();
+        final List<Ebook> updates = new ArrayList<>();
+        final Iterator<Ebook> currentIterator = tree.iterator();
+        final Iterator<? extends Ebook> targetIterator = catalog.iterator();
+        Ebook current = next(currentIterator);
+        Ebook target = next(targetIterator);
+        while (current != null || target != null) {
+            if (target == null || (current != null && current.getNumber() < target.getNumber())) {
+                removals.add(current);                      //EBOOK AUSENTE DO CATÁLOGO
+                current = next(currentIterator);
+            } else if (current == null || target.getNumber() < current.getNumber()) {
+                updates.add(target);                        //EBOOK NOVO
+                target = next(targetIterator);
+            } else {
+                if (!current.equals(target)) {              //EBOOK COM DADOS ALTERADOS
+                    updates.add(target);
+                }
+                current = next(currentIterator);
+                target = next(targetIterator);
+            }
+        }
+        for (final Ebook ebook : removals) {                //AS ALTERAÇÕES SÓ SÃO APLICADAS APÓS O PERCURSO DA ÁRVORE
+            this.remove(ebook.getNumber());
+        }
+        for (final Ebook ebook : updates) {
+            this.put(ebook.getNumber(), ebook);
+        }
+        return removals.size() + updates.size();
+    }
+
+    /**
+     * Método responsável por avançar determinado iterador.
+     * @param iterator  Refere-se ao iterador.
+     * @return          Retorna próximo elemento ou nulo ao fim do percurso.
+     */
+    private static Ebook next(final Iterator<? extends Ebook> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore pelos ebooks lidos de um arquivo.
+     * @param ebooks    Refere-se aos ebooks lidos ou nulo caso a leitura tenha falhado.
+     * @return          Retorna resultado da operação.
+     */
+    private boolean load(final List<? extends Ebook> ebooks) {
+        if (ebooks == null) {
+            this.clear();
             return false;
         }
+        this.bulkLoad(ebooks, Ebook::getNumber);    //SUBSTITUI O CONTEÚDO DE UMA SÓ VEZ; ARQUIVOS ORDENADOS SÃO CONSTRUÍDOS EM TEMPO LINEAR
         return true;
     }
 
     /**
-     * Método responsável por gerenciar a gravação de arquivos de texto na memória de armazenamento.
-     * @param fileName Refere-se ao nome do arquivo de texto a ser gravado.
+     * Método responsável por ler os ebooks de determinado arquivo, reconhecendo seu formato.
+     * @param fileName      Refere-se ao nome do arquivo.
+     * @param parallelism   Refere-se a quantidade máxima de trechos convertidos simultaneamente.
+     * @param mapped        Refere-se ao indicador de que arquivos de texto devem ser mapeados em memória.
+     * @return              Retorna ebooks na ordem do arquivo ou nulo caso a leitura falhe.
+     */
+    private List<? extends Ebook> read(final String fileName, final int parallelism, final boolean mapped) {
+        try {
+            final Path path = Paths.get(fileName);
+            final long[] bounds;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (EbookSnapshot.isSnapshot(channel)) {                //ARQUIVO NO FORMATO BINÁRIO, JÁ EM ORDEM DE NÚMERO
+                    return new EbookSnapshot(channel).read();
+                }
+                final Compression compression = Compression.detect(channel);
+                if (compression != Compression.NONE) {                  //ARQUIVO COMPRIMIDO NÃO PODE SER DIVIDIDO EM TRECHOS NEM MAPEADO
+                    return this.decompress(channel, compression);
+                } else if (mapped) {
+                    return MappedEbook.map(channel);                    //O MAPEAMENTO PERMANECE VÁLIDO APÓS FECHAR O CANAL
+                }
+                bounds = this.split(channel, parallelism);
+            }
+            if (bounds.length == 2) {
+                return this.parse(path, bounds[0], bounds[1]);
+            }
+            final List<ForkJoinTask<List<Ebook>>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                final long first = bounds[i];
+                final long last = bounds[i + 1];
+                tasks.add(ForkJoinPool.commonPool().submit(() -> this.parse(path, first, last)));
+            }
+            final List<Ebook> ebooks = new ArrayList<>();
+            for (final ForkJoinTask<List<Ebook>> task : tasks) {       //REÚNE OS TRECHOS NA ORDEM DO ARQUIVO
+                ebooks.addAll(task.get());
+            }
+            return ebooks;
+        } catch (final IOException exception) {
+            return null;
+        } catch (final IllegalArgumentException exception) {     //LINHA MAL FORMADA OU NOME DE ARQUIVO INVÁLIDO
+            return null;
+        } catch (final ExecutionException exception) {          //FALHA EM ALGUM DOS TRECHOS
+            return null;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Método responsável por dividir um arquivo em trechos de tamanhos próximos, cada um iniciando logo
+     * após uma quebra de linha. Nenhum trecho é menor que MIN_CHUNK_SIZE, exceto o último.
+     * @param channel       Refere-se ao canal do arquivo.
+     * @param parallelism   Refere-se a quantidade máxima de trechos.
+     * @return              Retorna posições que delimitam os trechos, incluindo o início e o fim do arquivo.
+     * @throws IOException  Caso ocorra falha de leitura no arquivo.
+     */
+    private long[] split(final FileChannel channel, final int parallelism) throws IOException {
+        final long size = channel.size();
+        final int chunks = (int) Math.max(1, Math.min(parallelism, size / MIN_CHUNK_SIZE));
+        final long[] bounds = new long[chunks + 1];
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        bounds[chunks] = size;
+        for (int i = 1; i < chunks; i++) {
+            long position = Math.max(size / chunks * i, bounds[i - 1]) - 1;
+            bounds[i] = size;
+            while (bounds[i] == size && position < size) {      //PROCURA A PRÓXIMA QUEBRA DE LINHA
+                buffer.clear();
+                final int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                for (int j = 0; j < read; j++) {
+                    if (buffer.get(j) == '\n') {
+                        bounds[i] = position + j + 1;
+                        break;
+                    }
+                }
+                position += read;
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Método responsável por converter em ebooks determinado trecho de um arquivo.
+     * @param path          Refere-se ao caminho do arquivo.
+     * @param first         Refere-se a posição inicial do trecho.
+     * @param last          Refere-se a posição final do trecho (exclusiva).
+     * @return              Retorna ebooks do trecho na ordem em que aparecem.
+     * @throws IOException  Caso ocorra falha de leitura no arquivo.
+     */
+    private List<Ebook> parse(final Path path, final long first, final long last) throws IOException {
+        final List<Ebook> ebooks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(first);
+            final EbookParser parser = new EbookParser(channel, last - first);
+            for (Ebook ebook = parser.next(); ebook != null; ebook = parser.next()) {
+                ebooks.add(ebook);
+            }
+        }
+        return ebooks;
+    }
+
+    /**
+     * Método responsável por converter em ebooks o conteúdo de um arquivo comprimido. A descompressão é
+     * executada por uma thread própria, que entrega os dados ao conversor por meio de uma fila limitada.
+     * @param channel       Refere-se ao canal do arquivo, que é fechado ao fim da leitura.
+     * @param compression   Refere-se ao formato de compressão do arquivo.
+     * @return              Retorna ebooks do arquivo na ordem em que aparecem.
+     * @throws IOException  Caso ocorra falha de leitura ou os dados comprimidos sejam inválidos.
+     */
+    private List<Ebook> decompress(final FileChannel channel, final Compression compression) throws IOException {
+        final List<Ebook> ebooks = new ArrayList<>();
+        try (PipelinedInputChannel input = new PipelinedInputChannel(compression.decompress(Channels.newInputStream(channel)))) {
+            final EbookParser parser = new EbookParser(input);
+            for (Ebook ebook = parser.next(); ebook != null; ebook = parser.next()) {
+                ebooks.add(ebook);
+            }
+        }
+        return ebooks;
+    }
+
+    /**
+     * Método responsável por gerenciar a gravação de arquivos na memória de armazenamento. Caso o nome do
+     * arquivo termine com a extensão de EbookSnapshot, o catálogo é gravado no formato binário; caso
+     * contrário, é gravado como texto, comprimido caso a extensão indique um formato de Compression. O catálogo é gravado primeiro em um arquivo temporário, que só
+     * então substitui o arquivo de destino, de modo que uma interrupção nunca deixa o destino incompleto.
+     * @param fileName Refere-se ao nome do arquivo a ser gravado.
      * @return Retorna resultado da operação.
      */
     public boolean saveFromFile(final String fileName) {
-        try (PrintWriter fileStream = new PrintWriter(new FileOutputStream(fileName, false))) {
-            saveFromFile(fileStream, super.getRoot());
-        } catch (final FileNotFoundException exception) {
+        try (AtomicFileWriter writer = new AtomicFileWriter(fileName, Compression.of(fileName))) {
+            final long records;
+            if (fileName.endsWith(EbookSnapshot.EXTENSION)) {
+                records = new EbookSnapshot(writer.getChannel()).write(this);
+            } else {
+                for (final Ebook ebook : this) {
+                    this.write(writer, ebook);
+                }
+                records = writer.getLines();
+            }
+            writer.commit();
+            savedRecords = records;
+            savedBytes = writer.getSize();
+            saveNanos = writer.getNanos();
+        } catch (final IOException exception) {
+            return false;
+        } catch (final IllegalArgumentException exception) {     //NOME DE ARQUIVO INVÁLIDO
             return false;
         }
         return true;
     }
 
     /**
-     * Método responsável por efetuar a gravação de arquivos de texto na memória de armazenamento.
-     * @param fileStream Refere-se ao objeto responsável por efetuar a gravação dos dados.
-     * @param node Refere-se a árvore que fará a gravação dos dados.
+     * Método responsável por retornar a quantidade de ebooks gravados na última gravação bem sucedida.
+     * @return Retorna quantidade de ebooks.
      */
-    private void saveFromFile(final PrintWriter fileStream, final Node node) {
-        if (node != null) {
-            saveFromFile(fileStream, node.getSonOnTheLeft());
-            fileStream.println(toString((Ebook)node.getElement()));
-            saveFromFile(fileStream, node.getSonOnTheRight());
-        }
+    public long getSavedRecords() {
+        return savedRecords;
     }
 
     /**
-     * Método responsável por efetuar a conversão de um ebook em string.
-     * @param ebook Refere-se ao ebook que será convertido.
-     * @return Retorna string com dados do livro.
+     * Método responsável por retornar o tamanho, em bytes, do arquivo gerado na última gravação bem sucedida.
+     * @return Retorna tamanho do arquivo.
      */
-    private String toString(final Ebook ebook) {
-        return ebook.getNumber() + ";" + ebook.getTitle() + ";" + ebook.getAuthor() + ";" + ebook.getMonth() + ";"
-                + ebook.getYear() + ";" + ebook.getUrl();
+    public long getSavedBytes() {
+        return savedBytes;
     }
 
     /**
-     * Método responsável por efetuar a conversão de uma string em ebook.
-     * @param string Refere-se a string que será convertida.
-     * @return Retorna ebook criado por meio da string.
+     * Método responsável por retornar a duração da última gravação bem sucedida.
+     * @return Retorna duração em nanossegundos.
      */
-    private Ebook toEbook(final String string) {
-        final String[] data = string.split(";");
-        return new Ebook(Integer.parseInt(data[0]), data[1], data[2], data[3],
-        Integer.parseInt(data[4]), data[5]);
+    public long getSaveNanos() {
+        return saveNanos;
     }
-    
-    
+
+    /**
+     * Método responsável por gravar determinado ebook como uma linha de texto, com os campos separados por
+     * ponto e vírgula.
+     * @param writer        Refere-se ao arquivo onde a linha será gravada.
+     * @param ebook         Refere-se ao ebook que será gravado.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    private void write(final AtomicFileWriter writer, final Ebook ebook) throws IOException {
+        writer.write(ebook.getNumber());
+        writer.write(';');
+        writer.write(ebook.getTitle());
+        writer.write(';');
+        writer.write(ebook.getAuthor());
+        writer.write(';');
+        writer.write(ebook.getMonth());
+        writer.write(';');
+        writer.write(ebook.getYear());
+        writer.write(';');
+        writer.write(ebook.getUrl());
+        writer.newLine();
+    }
+
 }
@@ -0,0 +1,107 @@
+package util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe responsável por observar, em uma thread própria, as alterações de determinado arquivo por meio de
+ * WatchService. Como o serviço observa diretórios, o diretório do arquivo é registrado e apenas os eventos do
+ * arquivo são considerados, inclusive sua substituição por renomeação. Eventos próximos são agrupados, de
+ * modo que uma gravação em várias etapas gera uma única notificação.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class FileWatcher implements Closeable {
+    private static final long QUIET_MILLIS = 200;
+    private final Path file;
+    private final Runnable action;
+    private final WatchService watchService;
+    private final Thread watcher;
+
+    /**
+     * Construtor responsável por iniciar a observação de determinado arquivo.
+     * @param file          Refere-se ao caminho do arquivo observado.
+     * @param action        Refere-se a ação executada, na thread de observação, após cada alteração do arquivo.
+     * @throws IOException  Caso não seja possível observar o diretório do arquivo.
+     */
+    public FileWatcher(final Path file, final Runnable action) throws IOException {
+        this.file = file.toAbsolutePath().normalize();
+        this.action = action;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            this.file.getParent().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (final IOException exception) {
+            this.watchService.close();
+            throw exception;
+        }
+        this.watcher = new Thread(this::watch, "catalog-watcher");
+        this.watcher.setDaemon(true);
+        this.watcher.start();
+    }
+
+    /**
+     * Método executado pela thread de observação: aguarda eventos do arquivo e, após um intervalo sem novos
+     * eventos, executa a ação. Termina quando o serviço é fechado.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = this.poll(this.watchService.take());
+                WatchKey key;
+                while ((key = this.watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= this.poll(key);          //AGUARDA O FIM DA GRAVAÇÃO
+                }
+                if (changed) {
+                    this.action.run();
+                }
+            }
+        } catch (final ClosedWatchServiceException exception) {
+            //A OBSERVAÇÃO FOI ENCERRADA
+        } catch (final InterruptedException exception) {
+            //A OBSERVAÇÃO FOI ENCERRADA
+        }
+    }
+
+    /**
+     * Método responsável por consumir os eventos de determinada chave do serviço.
+     * @param key   Refere-se a chave do diretório observado.
+     * @return      Retorna dado boleano que indica se algum evento refere-se ao arquivo observado.
+     */
+    private boolean poll(final WatchKey key) {
+        boolean changed = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {     //EVENTOS PERDIDOS PODEM INCLUIR O ARQUIVO
+                changed = true;
+            } else if (this.file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Método responsável por encerrar a observação do arquivo.
+     * @throws IOException Caso ocorra falha ao fechar o serviço.
+     */
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+        if (Thread.currentThread() != this.watcher) {
+            try {
+                this.watcher.join();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
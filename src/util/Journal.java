@@ -0,0 +1,256 @@
+package util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import model.Ebook;
+
+/**
+ * Classe responsável por registrar, em um arquivo que só cresce, as inserções e remoções feitas no catálogo
+ * desde a última gravação completa, permitindo recuperá-las sem regravar todo o catálogo. Cada registro é
+ * composto por seu tamanho, pelo tipo da operação, pelos dados da operação e por um código CRC32. Os
+ * registros são acumulados e gravados em lotes, podendo ainda ser forçados para o disco a cada lote.
+ * A reaplicação é idempotente: inserções substituem o elemento da chave e remoções de chaves ausentes
+ * não têm efeito, de modo que reaplicar o diário sobre um catálogo que já o contém não o altera.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class Journal implements Closeable {
+    public static final String EXTENSION = ".journal";
+    private static final byte INSERT = 1;
+    private static final byte REMOVE = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final FileChannel channel;
+    private final int batchSize;
+    private final boolean force;
+    private final CRC32 crc;
+    private ByteBuffer buffer;
+    private int pending;
+
+    /**
+     * Construtor responsável por abrir (ou criar) o diário de determinado arquivo.
+     * @param fileName      Refere-se ao nome do arquivo do diário.
+     * @param batchSize     Refere-se a quantidade de registros acumulados antes de cada gravação.
+     * @param force         Refere-se ao indicador de que cada lote gravado deve ser forçado para o disco.
+     * @throws IOException  Caso não seja possível abrir o arquivo.
+     */
+    public Journal(final String fileName, final int batchSize, final boolean force) throws IOException {
+        this.channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.batchSize = Math.max(1, batchSize);
+        this.force = force;
+        this.crc = new CRC32();
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.pending = 0;
+    }
+
+    /**
+     * Método responsável por reaplicar na árvore todas as operações registradas no diário. Caso o final
+     * do diário esteja incompleto ou corrompido (por exemplo, por uma interrupção durante a gravação), ele
+     * é descartado e as novas operações passam a ser registradas a partir do último registro válido.
+     * @param tree          Refere-se a árvore onde as operações serão reaplicadas.
+     * @return              Retorna quantidade de operações reaplicadas.
+     * @throws IOException  Caso ocorra falha de leitura no arquivo.
+     */
+    public int replay(final KeyedTree<Ebook> tree) throws IOException {
+        final long size = this.channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(4);
+        long position = 0;
+        int count = 0;
+        while (position + 4 <= size) {
+            header.clear();
+            this.read(header, position);
+            final int length = header.getInt(0);
+            if (length <= 0 || length > size - position - 8) {   //REGISTRO INCOMPLETO
+                break;
+            }
+            final ByteBuffer record = ByteBuffer.allocate(length + 4);
+            this.read(record, position + 4);
+            this.crc.reset();
+            this.crc.update(record.array(), 0, length);
+            if ((int) this.crc.getValue() != record.getInt(length)) {   //REGISTRO CORROMPIDO
+                break;
+            }
+            record.position(0).limit(length);
+            this.apply(record, tree);
+            position += 8 + length;
+            count++;
+        }
+        if (position < size) {
+            this.channel.truncate(position);
+        }
+        this.channel.position(position);
+        return count;
+    }
+
+    /**
+     * Método responsável por ler determinada quantidade de bytes a partir de uma posição do arquivo.
+     * @param target        Refere-se ao buffer que será preenchido por completo.
+     * @param position      Refere-se a posição inicial no arquivo.
+     * @throws IOException  Caso ocorra falha de leitura no arquivo.
+     */
+    private void read(final ByteBuffer target, final long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (this.channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Fim inesperado do diário.");
+            }
+        }
+    }
+
+    /**
+     * Método responsável por aplicar na árvore a operação contida em determinado registro.
+     * @param record    Refere-se ao registro, posicionado em seu tipo de operação.
+     * @param tree      Refere-se a árvore onde a operação será aplicada.
+     */
+    private void apply(final ByteBuffer record, final KeyedTree<Ebook> tree) {
+        final byte operation = record.get();
+        final int number = record.getInt();
+        if (operation == INSERT) {
+            final int year = record.getInt();
+            final String title = this.getString(record);
+            final String author = this.getString(record);
+            final String month = this.getString(record);
+            final String url = this.getString(record);
+            tree.put(number, new Ebook(number, title, author, month, year, url));
+        } else if (operation == REMOVE) {
+            tree.remove(number);
+        }
+    }
+
+    /**
+     * Método responsável por ler uma string em UTF-8 precedida de seu tamanho em bytes.
+     * @param record    Refere-se ao registro.
+     * @return          Retorna string lida.
+     */
+    private String getString(final ByteBuffer record) {
+        final int length = record.getInt();
+        final String string = new String(record.array(), record.position(), length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return string;
+    }
+
+    /**
+     * Método responsável por registrar a inserção de determinado ebook.
+     * @param ebook         Refere-se ao ebook inserido.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    public void insert(final Ebook ebook) throws IOException {
+        final byte[] title = ebook.getTitle().getBytes(StandardCharsets.UTF_8);
+        final byte[] author = ebook.getAuthor().getBytes(StandardCharsets.UTF_8);
+        final byte[] month = ebook.getMonth().getBytes(StandardCharsets.UTF_8);
+        final byte[] url = ebook.getUrl().getBytes(StandardCharsets.UTF_8);
+        final int length = 9 + 16 + title.length + author.length + month.length + url.length;
+        final int start = this.begin(length);
+        this.buffer.put(INSERT).putInt(ebook.getNumber()).putInt(ebook.getYear());
+        this.buffer.putInt(title.length).put(title);
+        this.buffer.putInt(author.length).put(author);
+        this.buffer.putInt(month.length).put(month);
+        this.buffer.putInt(url.length).put(url);
+        this.end(start, length);
+    }
+
+    /**
+     * Método responsável por registrar a remoção de determinado ebook.
+     * @param number        Refere-se ao número do ebook removido.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    public void remove(final int number) throws IOException {
+        final int start = this.begin(5);
+        this.buffer.put(REMOVE).putInt(number);
+        this.end(start, 5);
+    }
+
+    /**
+     * Método responsável por reservar espaço no lote para um novo registro e gravar seu tamanho.
+     * @param length        Refere-se ao tamanho dos dados do registro.
+     * @return              Retorna posição dos dados do registro no lote.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    private int begin(final int length) throws IOException {
+        if (this.buffer.remaining() < length + 8) {
+            this.write();
+            if (this.buffer.capacity() < length + 8) {
+                this.buffer = ByteBuffer.allocate(length + 8);
+            }
+        }
+        this.buffer.putInt(length);
+        return this.buffer.position();
+    }
+
+    /**
+     * Método responsável por concluir um registro, gravando seu código CRC32, e gravar o lote caso esteja
+     * completo.
+     * @param start         Refere-se a posição dos dados do registro no lote.
+     * @param length        Refere-se ao tamanho dos dados do registro.
+     * @throws IOException  Caso ocorra falha de gravação no arquivo.
+     */
+    private void end(final int start, final int length) throws IOException {
+        this.crc.reset();
+        this.crc.update(this.buffer.array(), start, length);
+        this.buffer.putInt((int) this.crc.getValue());
+        if (++this.pending >= this.batchSize) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Método responsável por gravar no arquivo os registros acumulados, sem forçá-los para o disco.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    private void write() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Método responsável por gravar no arquivo os registros acumulados, forçando-os para o disco caso
+     * configurado.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    public void flush() throws IOException {
+        if (this.pending == 0 && this.buffer.position() == 0) {
+            return;
+        }
+        this.write();
+        this.pending = 0;
+        if (this.force) {
+            this.channel.force(false);
+        }
+    }
+
+    /**
+     * Método responsável por esvaziar o diário, o que deve ser feito logo após as operações registradas
+     * terem sido incorporadas a uma gravação completa do catálogo.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    public void reset() throws IOException {
+        this.buffer.clear();
+        this.pending = 0;
+        this.channel.truncate(0);
+        this.channel.position(0);
+        if (this.force) {
+            this.channel.force(false);
+        }
+    }
+
+    /**
+     * Método responsável por gravar os registros pendentes e fechar o diário.
+     * @throws IOException Caso ocorra falha de gravação no arquivo.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+}
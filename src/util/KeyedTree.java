@@ -0,0 +1,110 @@
+package util;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Interface responsável por definir o contrato das árvores ordenadas por chaves inteiras utilizadas
+ * pelo sistema, permitindo que diferentes implementações sejam trocadas sem alterar quem as utiliza.
+ * Acrescenta as operações de escrita às consultas de ReadableTree.
+ * Elementos nulos não são armazenados, de modo que nulo sempre indica ausência de elemento.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore irá armazenar.
+ */
+public interface KeyedTree<E> extends ReadableTree<E> {
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    void clear();
+
+    /**
+     * Método responsável por recalcular o elemento de determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que recebe a chave e o elemento atual (ou nulo) e retorna o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    E compute(int key, BiFunction<Integer, ? super E, ? extends E> remappingFunction);
+
+    /**
+     * Método responsável por remover elementos da árvore, percorrendo-a uma única vez.
+     * @param key   Refere-se a achave do elemento.
+     * @return      Retorna elemento removido ou nulo caso a chave não exista.
+     */
+    E remove(int key);
+
+    /**
+     * Método responsável por substituir todo o conteúdo da árvore pelos elementos informados. Quando houver
+     * chaves repetidas, permanece o primeiro elemento de cada chave, tal como em inserções sucessivas.
+     * Implementações podem aproveitar entradas já ordenadas para construir a árvore em tempo linear.
+     * @param elements      Refere-se aos elementos, na ordem em que foram lidos.
+     * @param keyFunction   Refere-se a função que extrai a chave de cada elemento.
+     */
+    default void bulkLoad(final List<? extends E> elements, final ToIntFunction<? super E> keyFunction) {
+        this.clear();
+        for (final E element : elements) {
+            this.insert(keyFunction.applyAsInt(element), element);
+        }
+    }
+
+    /**
+     * Método responsável por inserir novos elementos na árvore, desde que a chave ainda não exista.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @return          Retorna dado boleano que indica se o elemento foi inserido.
+     */
+    default boolean insert(final int key, final E element) {
+        return this.putIfAbsent(key, element) == null;
+    }
+
+    /**
+     * Método responsável por inserir um elemento caso a chave ainda não exista.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @return          Retorna elemento já associado a chave ou nulo caso o novo elemento tenha sido inserido.
+     */
+    default E putIfAbsent(final int key, final E element) {
+        final Object[] oldElement = new Object[1];
+        this.compute(key, (currentKey, currentElement) -> {
+            oldElement[0] = currentElement;
+            return currentElement == null ? element : currentElement;
+        });
+        @SuppressWarnings("unchecked")
+        final E result = (E) oldElement[0];
+        return result;
+    }
+
+    /**
+     * Método responsável por inserir ou substituir um elemento.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao novo elemento.
+     * @return          Retorna elemento substituído ou nulo caso a chave não existisse.
+     */
+    default E put(final int key, final E element) {
+        final Object[] oldElement = new Object[1];
+        this.compute(key, (currentKey, currentElement) -> {
+            oldElement[0] = currentElement;
+            return element;
+        });
+        @SuppressWarnings("unchecked")
+        final E result = (E) oldElement[0];
+        return result;
+    }
+
+    /**
+     * Método responsável por combinar um elemento ao já existente em determinada chave.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param element               Refere-se ao elemento que será inserido caso a chave não exista.
+     * @param remappingFunction     Refere-se a função que combina o elemento atual com o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    default E merge(final int key, final E element, final BiFunction<? super E, ? super E, ? extends E> remappingFunction) {
+        return this.compute(key, (currentKey, oldElement) -> oldElement == null ? element
+                : remappingFunction.apply(oldElement, element));
+    }
+
+
+}
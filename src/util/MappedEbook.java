@@ -0,0 +1,252 @@
+package util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import model.Ebook;
+
+/**
+ * Classe responsável por comportar-se como um ebook cujos dados permanecem em um arquivo de catálogo
+ * mapeado em memória. Apenas o número do ebook e a posição de sua linha no arquivo são mantidos; os
+ * demais campos são decodificados do arquivo a cada consulta. Assim, a memória ocupada depende da
+ * quantidade de ebooks, e não do tamanho de seus textos. O arquivo não deve ser alterado no mesmo local
+ * enquanto estiver mapeado (substituições por renomeação, como as de AtomicFileWriter, são seguras).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class MappedEbook extends Ebook {
+    private static final long SEGMENT_SIZE = 1L << 30;
+    private final ByteBuffer segment;
+    private final int offset;
+
+    /**
+     * Construtor responsável por inicializar o ebook a partir de determinada linha de um trecho mapeado.
+     * @param number    Refere-se ao número do ebook.
+     * @param segment   Refere-se ao trecho mapeado que contém a linha.
+     * @param offset    Refere-se a posição inicial da linha no trecho.
+     */
+    private MappedEbook(final int number, final ByteBuffer segment, final int offset) {
+        super(number, null, null, null, 0, null);
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    /**
+     * Método responsável por mapear em memória um arquivo de catálogo e criar um ebook para cada uma de
+     * suas linhas não vazias, na ordem do arquivo. O arquivo é mapeado em trechos de até 1 GB terminados
+     * em quebras de linha, e cada linha é validada durante o mapeamento.
+     * @param channel       Refere-se ao canal do arquivo.
+     * @return              Retorna ebooks do arquivo.
+     * @throws IOException  Caso ocorra falha de leitura ou alguma linha ultrapasse o tamanho de um trecho.
+     * @throws IllegalArgumentException Caso alguma linha não contenha todos os campos ou algum campo numérico seja inválido.
+     */
+    public static List<MappedEbook> map(final FileChannel channel) throws IOException {
+        final List<MappedEbook> ebooks = new ArrayList<>();
+        final long size = channel.size();
+        long start = 0;
+        while (start < size) {
+            final long length = Math.min(SEGMENT_SIZE, size - start);
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            int end = (int) length;
+            if (start + length < size) {                    //O TRECHO TERMINA NA ÚLTIMA QUEBRA DE LINHA
+                while (end > 0 && mapped.get(end - 1) != '\n') {
+                    end--;
+                }
+                if (end == 0) {
+                    throw new IOException("Linha maior que o tamanho de um trecho mapeado.");
+                }
+            }
+            mapped.limit(end);
+            final ByteBuffer segment = mapped.slice();
+            for (int lineStart = 0; lineStart < end;) {
+                final int lineEnd = lineEnd(segment, lineStart);
+                if (lineEnd > lineStart) {
+                    ebooks.add(parse(segment, lineStart, lineEnd));
+                }
+                lineStart = lineEnd < end && segment.get(lineEnd) == '\r' ? lineEnd + 2 : lineEnd + 1;
+            }
+            start += end;
+        }
+        return ebooks;
+    }
+
+    /**
+     * Método responsável por validar determinada linha e criar seu ebook.
+     * @param segment   Refere-se ao trecho mapeado.
+     * @param start     Refere-se a posição inicial da linha.
+     * @param end       Refere-se a posição final da linha (exclusiva).
+     * @return          Retorna ebook da linha.
+     */
+    private static MappedEbook parse(final ByteBuffer segment, final int start, final int end) {
+        int delimiter = start;
+        int monthEnd = start;
+        for (int field = 0; field < 5; field++) {
+            while (delimiter < end && segment.get(delimiter) != ';') {
+                delimiter++;
+            }
+            if (delimiter == end) {
+                throw new IllegalArgumentException("Linha incompleta na posição " + start + " do trecho mapeado.");
+            }
+            if (field == 3) {
+                monthEnd = delimiter;
+            }
+            delimiter++;
+        }
+        parseInt(segment, monthEnd + 1, delimiter - 1);    //VALIDA O ANO, QUE SERÁ DECODIFICADO SOB DEMANDA
+        return new MappedEbook(parseInt(segment, start, fieldEnd(segment, start)), segment, start);
+    }
+
+    /**
+     * Método responsável por localizar o fim de determinada linha, desconsiderando a quebra de linha.
+     * @param segment   Refere-se ao trecho mapeado.
+     * @param start     Refere-se a posição inicial da linha.
+     * @return          Retorna posição final da linha (exclusiva).
+     */
+    private static int lineEnd(final ByteBuffer segment, final int start) {
+        int end = start;
+        while (end < segment.limit() && segment.get(end) != '\n') {
+            end++;
+        }
+        return end > start && segment.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    /**
+     * Método responsável por localizar o fim do campo iniciado em determinada posição.
+     * @param segment   Refere-se ao trecho mapeado.
+     * @param start     Refere-se a posição inicial do campo.
+     * @return          Retorna posição final do campo (exclusiva).
+     */
+    private static int fieldEnd(final ByteBuffer segment, final int start) {
+        int end = start;
+        while (end < segment.limit()) {
+            final byte current = segment.get(end);
+            if (current == ';') {
+                return end;
+            } else if (current == '\n') {
+                break;
+            }
+            end++;
+        }
+        return end > start && segment.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    /**
+     * Método responsável por converter em inteiro os dígitos decimais de um intervalo do trecho, aceitando
+     * sinal inicial tal como Integer.parseInt.
+     * @param segment   Refere-se ao trecho mapeado.
+     * @param from      Refere-se a posição inicial do campo.
+     * @param to        Refere-se a posição final do campo (exclusiva).
+     * @return          Retorna valor inteiro do campo.
+     */
+    private static int parseInt(final ByteBuffer segment, final int from, final int to) {
+        int index = from;
+        final boolean negative = index < to && segment.get(index) == '-';
+        if (index < to && (segment.get(index) == '-' || segment.get(index) == '+')) {
+            index++;
+        }
+        if (index == to) {
+            throw new NumberFormatException("Número inválido: \"" + toString(segment, from, to) + "\"");
+        }
+        final int limitValue = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (; index < to; index++) {
+            final int digit = segment.get(index) - '0';
+            if (digit < 0 || digit > 9 || result < limitValue / 10 || result * 10 < limitValue + digit) {
+                throw new NumberFormatException("Número inválido: \"" + toString(segment, from, to) + "\"");
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Método responsável por decodificar em string um intervalo do trecho.
+     * @param segment   Refere-se ao trecho mapeado.
+     * @param from      Refere-se a posição inicial do campo.
+     * @param to        Refere-se a posição final do campo (exclusiva).
+     * @return          Retorna string do campo.
+     */
+    private static String toString(final ByteBuffer segment, final int from, final int to) {
+        final byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = segment.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Método responsável por localizar o início de determinado campo da linha do ebook.
+     * @param field Refere-se ao índice do campo, iniciando em zero.
+     * @return      Retorna posição inicial do campo.
+     */
+    private int fieldStart(final int field) {
+        int position = this.offset;
+        for (int i = 0; i < field; i++) {
+            while (this.segment.get(position) != ';') {
+                position++;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Método responsável por decodificar determinado campo textual da linha do ebook.
+     * @param field Refere-se ao índice do campo, iniciando em zero.
+     * @return      Retorna valor do campo.
+     */
+    private String getField(final int field) {
+        final int start = this.fieldStart(field);
+        return toString(this.segment, start, fieldEnd(this.segment, start));
+    }
+
+    /**
+     * Método responsável por retornar o título da obra, decodificado do arquivo.
+     * @return Retorna título da obra.
+     */
+    @Override
+    public String getTitle() {
+        return this.getField(1);
+    }
+
+    /**
+     * Método responsável por retornar o nome do autor da obra, decodificado do arquivo.
+     * @return Retorna nome do autor da obra.
+     */
+    @Override
+    public String getAuthor() {
+        return this.getField(2);
+    }
+
+    /**
+     * Método responsável por retornar o mês de publicação da obra, decodificado do arquivo.
+     * @return Retorna mês de publicação da obra.
+     */
+    @Override
+    public String getMonth() {
+        return this.getField(3);
+    }
+
+    /**
+     * Método responsável por retornar o ano de publicação da obra, decodificado do arquivo.
+     * @return Retorna ano de publicação da obra.
+     */
+    @Override
+    public int getYear() {
+        final int start = this.fieldStart(4);
+        return parseInt(this.segment, start, fieldEnd(this.segment, start));
+    }
+
+    /**
+     * Método responsável por retornar o endereço eletrônico do ebook, decodificado do arquivo.
+     * @return Retorna endereço eletrônico do ebook.
+     */
+    @Override
+    public String getUrl() {
+        return this.getField(5);
+    }
+
+}
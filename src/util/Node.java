@@ -8,6 +8,8 @@ package util;
 public class Node<E> {
     private int key;
     private int balancing;
+    private int height;
+    private int size;
     private E element;
     private Node<E> sonOnTheLeft;
     private Node<E> sonOnTheRight;
@@ -20,6 +22,8 @@ public class Node<E> {
     public Node(final int key, final E element) {
         this.key = key;
         this.balancing = 0;
+        this.height = 1;
+        this.size = 1;
         this.element = element;
         this.sonOnTheLeft = null;
         this.sonOnTheRight = null;
@@ -41,6 +45,22 @@ public class Node<E> {
         this.balancing = balancing;
     }
 
+    /**
+     * Método responsável por alterar a altura do nó.
+     * @param height Refere-se a nova altura do nó.
+     */
+    public void setHeight(final int height) {
+        this.height = height;
+    }
+
+    /**
+     * Método responsável por alterar a quantidade de nós da subárvore cuja raiz é o nó.
+     * @param size Refere-se a nova quantidade de nós.
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
     /**
      * Método responsável por alterar o elemento do nó.
      * @param element   Refere-se ao novo elemento do nó.
@@ -81,6 +101,22 @@ public class Node<E> {
         return this.balancing;
     }
 
+    /**
+     * Método responsável por retornar a altura do nó.
+     * @return  Retorna altura do nó.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de nós da subárvore cuja raiz é o nó.
+     * @return  Retorna quantidade de nós.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
     /**
      * Método responsável por retornar o elemento do nó.
      * @return  Retorna elemento do nó.
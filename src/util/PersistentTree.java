@@ -0,0 +1,568 @@
+package util;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Classe responsável por comportar-se como uma árvore AVL persistente, própria para o acesso concorrente.
+ * Nós já publicados jamais são alterados: cada escrita copia apenas os nós do caminho percorrido (e os
+ * envolvidos em rotações), compartilhando as demais subárvores com a versão anterior, e publica a nova
+ * raiz atomicamente. Desse modo, as leituras não utilizam travas e sempre enxergam uma versão completa e
+ * consistente da árvore, enquanto as escritas são serializadas entre si.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore irá armazenar.
+ */
+public class PersistentTree<E> implements KeyedTree<E> {
+    private final AtomicReference<Node<E>> root;
+    private E oldElement;
+    private E newElement;
+    private boolean changed;
+
+    /**
+     * Construtor responsável por inicializar a árvore, bem como sua referência para a raiz.
+     */
+    public PersistentTree() {
+        this.root = new AtomicReference<>(null);
+        this.oldElement = null;
+        this.newElement = null;
+        this.changed = false;
+    }
+
+    /**
+     * Método responsável por retornar uma versão imutável da árvore no instante atual. Consultas
+     * sucessivas sobre a versão retornada são consistentes entre si, independentemente de escritas
+     * posteriores na árvore.
+     * @return Retorna versão somente leitura da árvore, que não expõe operações de escrita.
+     */
+    public ReadableTree<E> snapshot() {
+        return new Snapshot<>(this.root.get());
+    }
+
+    /**
+     * Método responsável por retornar árvore de consulta sobre a versão atual.
+     * @return Retorna árvore de consulta.
+     */
+    private Tree<E> view() {
+        return new Tree<>(this.root.get());
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    @Override
+    public synchronized void clear() {
+        this.root.set(null);
+    }
+
+    /**
+     * Método responsável por recalcular o elemento de determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que recebe a chave e o elemento atual (ou nulo) e retorna o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public synchronized E compute(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        this.update(key, remappingFunction);
+        final E result = this.newElement;
+        this.oldElement = null;
+        this.newElement = null;
+        return result;
+    }
+
+    /**
+     * Método responsável por remover elementos da árvore, percorrendo-a uma única vez.
+     * @param key   Refere-se a achave do elemento.
+     * @return      Retorna elemento removido ou nulo caso a chave não exista.
+     */
+    @Override
+    public synchronized E remove(final int key) {
+        this.update(key, (currentKey, currentElement) -> null);
+        final E result = this.oldElement;
+        this.oldElement = null;
+        this.newElement = null;
+        return result;
+    }
+
+    /**
+     * Método responsável por aplicar determinada alteração sobre uma cópia do caminho até a chave e
+     * publicar a nova raiz. Caso nada seja alterado, a raiz atual é mantida.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     */
+    private void update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        this.oldElement = null;
+        this.newElement = null;
+        this.changed = false;
+        final Node<E> currentRoot = this.root.get();
+        final Node<E> newRoot = this.update(key, remappingFunction, currentRoot);
+        if (newRoot != currentRoot) {
+            this.root.set(newRoot);
+        }
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por aplicar determinada alteração na árvore sem modificar os
+     * nós existentes. O rebalanceamento só é efetuado no caminho de volta quando houver inserção ou remoção
+     * de nós.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     * @param currentNode           Refere-se ao nó que possívelmente contém a chave.
+     * @return                      Retorna nova versão da subárvore ou a própria subárvore caso nada mude.
+     */
+    private Node<E> update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction,
+            final Node<E> currentNode) {
+        if (currentNode == null) {
+            this.newElement = remappingFunction.apply(key, null);
+            if (this.newElement == null) {
+                return null;
+            }
+            this.changed = true;
+            return new Node<>(key, this.newElement);
+        } else if (currentNode.getKey() == key) {
+            this.oldElement = currentNode.getElement();
+            this.newElement = remappingFunction.apply(key, this.oldElement);
+            if (this.newElement == null) {
+                this.changed = true;
+                return this.removeNode(currentNode);
+            } else if (this.newElement == this.oldElement) {
+                return currentNode;
+            }
+            final Node<E> copy = this.copy(currentNode);
+            copy.setElement(this.newElement);
+            return copy;
+        }
+        final Node<E> copy;
+        if (currentNode.getKey() > key) {
+            final Node<E> son = this.update(key, remappingFunction, currentNode.getSonOnTheLeft());
+            if (son == currentNode.getSonOnTheLeft()) {
+                return currentNode;
+            }
+            copy = this.copy(currentNode);
+            copy.setSonOnTheLeft(son);
+        } else {
+            final Node<E> son = this.update(key, remappingFunction, currentNode.getSonOnTheRight());
+            if (son == currentNode.getSonOnTheRight()) {
+                return currentNode;
+            }
+            copy = this.copy(currentNode);
+            copy.setSonOnTheRight(son);
+        }
+        return this.changed ? this.adjustHeigth(copy) : copy;
+    }
+
+    /**
+     * Método auxiliar responsável por retornar nova versão de determinada subárvore sem sua raiz.
+     * @param currentNode   Refere-se ao nó que será removido.
+     * @return              Retorna nova versão da subárvore sem o nó.
+     */
+    private Node<E> removeNode(final Node<E> currentNode) {
+        if (currentNode.getSonOnTheLeft() == null) {
+            return currentNode.getSonOnTheRight();
+        } else if (currentNode.getSonOnTheRight() == null) {
+            return currentNode.getSonOnTheLeft();
+        }
+        Node<E> tmpNode;
+        for (tmpNode = currentNode.getSonOnTheLeft(); tmpNode.getSonOnTheRight() != null; tmpNode = tmpNode.getSonOnTheRight());
+        final Node<E> newNode = new Node<>(tmpNode.getKey(), tmpNode.getElement());
+        newNode.setSonOnTheLeft(this.removeHighest(currentNode.getSonOnTheLeft()));
+        newNode.setSonOnTheRight(currentNode.getSonOnTheRight());
+        return this.adjustHeigth(newNode);
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por retornar nova versão de determinada subárvore sem o nó
+     * de maior chave.
+     * @param currentNode   Refere-se a raiz da subárvore.
+     * @return              Retorna nova versão da subárvore sem o nó de maior chave.
+     */
+    private Node<E> removeHighest(final Node<E> currentNode) {
+        if (currentNode.getSonOnTheRight() == null) {
+            return currentNode.getSonOnTheLeft();
+        }
+        final Node<E> copy = this.copy(currentNode);
+        copy.setSonOnTheRight(this.removeHighest(currentNode.getSonOnTheRight()));
+        return this.adjustHeigth(copy);
+    }
+
+    /**
+     * Método responsável por copiar determinado nó, compartilhando seus filhos.
+     * @param currentNode   Refere-se ao nó que será copiado.
+     * @return              Retorna cópia do nó.
+     */
+    private Node<E> copy(final Node<E> currentNode) {
+        final Node<E> copy = new Node<>(currentNode.getKey(), currentNode.getElement());
+        copy.setSonOnTheLeft(currentNode.getSonOnTheLeft());
+        copy.setSonOnTheRight(currentNode.getSonOnTheRight());
+        copy.setHeight(currentNode.getHeight());
+        copy.setSize(currentNode.getSize());
+        copy.setBalancing(currentNode.getBalancing());
+        return copy;
+    }
+
+    /**
+     * Método responsável por retornar a altura de determinado nó da árvore.
+     * @param currentNode   Refere-se ao nó o cuja altura será retornada.
+     * @return              Retorna altura de determinado nó de árvore.
+     */
+    private int getHeight(final Node<E> currentNode) {
+        return currentNode == null ? 0 : currentNode.getHeight();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de nós da subárvore cuja raiz é determinado nó.
+     * @param currentNode   Refere-se a raiz da subárvore.
+     * @return              Retorna quantidade de nós da subárvore.
+     */
+    private int getSize(final Node<E> currentNode) {
+        return currentNode == null ? 0 : currentNode.getSize();
+    }
+
+    /**
+     * Método responsável por atualizar a altura, a quantidade de nós e o valor de balanceamento de
+     * determinado nó ainda não publicado.
+     * @param currentNode   Refere-se a determinado nó da árvore.
+     */
+    private void updateBalancing(final Node<E> currentNode) {
+        final int heightOnTheLeft = this.getHeight(currentNode.getSonOnTheLeft());
+        final int heightOnTheRight = this.getHeight(currentNode.getSonOnTheRight());
+        currentNode.setHeight(1 + Math.max(heightOnTheLeft, heightOnTheRight));
+        currentNode.setSize(1 + this.getSize(currentNode.getSonOnTheLeft()) + this.getSize(currentNode.getSonOnTheRight()));
+        currentNode.setBalancing(heightOnTheRight - heightOnTheLeft);
+    }
+
+    /**
+     * Método responsável por retornar subárvore reconstruída de forma balanceada. Os filhos envolvidos
+     * em rotações são copiados antes de serem alterados.
+     * @param currentNode   Refere-se ao nó ainda não publicado que será balanceado.
+     * @return              Retorna subárvore reconstruída de forma balanceada.
+     */
+    private Node<E> adjustHeigth(final Node<E> currentNode) {
+        this.updateBalancing(currentNode);
+        if (currentNode.getBalancing() <= -2) {
+            if (currentNode.getSonOnTheLeft().getBalancing() > 0) {
+                currentNode.setSonOnTheLeft(this.rotationRight(this.copy(currentNode.getSonOnTheLeft())));
+            }
+            return this.rotationLeft(currentNode);
+        } else if (currentNode.getBalancing() >= 2) {
+            if (currentNode.getSonOnTheRight().getBalancing() < 0) {
+                currentNode.setSonOnTheRight(this.rotationLeft(this.copy(currentNode.getSonOnTheRight())));
+            }
+            return this.rotationRight(currentNode);
+        }
+        return currentNode;
+    }
+
+    /**
+     * Método responsável por efetuar rotações simples a esquerda, promovendo uma cópia do filho a esquerda.
+     * @param oldRoot   Refere-se ao nó ainda não publicado que deixará de ser raiz.
+     * @return          Retorna subárvore rotacionada.
+     */
+    private Node<E> rotationLeft(final Node<E> oldRoot) {
+        final Node<E> newRoot = this.copy(oldRoot.getSonOnTheLeft());
+        oldRoot.setSonOnTheLeft(newRoot.getSonOnTheRight());
+        newRoot.setSonOnTheRight(oldRoot);
+        this.updateBalancing(oldRoot);
+        this.updateBalancing(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Método responsável por efetuar rotações simples a direita, promovendo uma cópia do filho a direita.
+     * @param oldRoot   Refere-se ao nó ainda não publicado que deixará de ser raiz.
+     * @return          Retorna subárvore rotacionada.
+     */
+    private Node<E> rotationRight(final Node<E> oldRoot) {
+        final Node<E> newRoot = this.copy(oldRoot.getSonOnTheRight());
+        oldRoot.setSonOnTheRight(newRoot.getSonOnTheLeft());
+        newRoot.setSonOnTheLeft(oldRoot);
+        this.updateBalancing(oldRoot);
+        this.updateBalancing(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Método responsável por substituir todo o conteúdo da árvore pelos elementos informados. A nova
+     * versão é construída à parte e publicada de uma só vez, de modo que as leituras concorrentes
+     * enxergam a versão anterior ou a nova por completo.
+     * @param elements      Refere-se aos elementos, na ordem em que foram lidos.
+     * @param keyFunction   Refere-se a função que extrai a chave de cada elemento.
+     */
+    @Override
+    public synchronized void bulkLoad(final List<? extends E> elements, final ToIntFunction<? super E> keyFunction) {
+        final Tree<E> tree = new Tree<>();
+        tree.bulkLoad(elements, keyFunction);
+        @SuppressWarnings("unchecked")
+        final Node<E> newRoot = tree.getRoot();
+        this.root.set(newRoot);
+    }
+
+    /**
+     * Método responsável por efetuar buscas na árvore.
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna elemento.
+     */
+    @Override
+    public E search(final int key) {
+        return this.view().search(key);
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se a árvore está vazia.
+     * @return Retorna dado boleano.
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.root.get() == null;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos.
+     */
+    @Override
+    public int size() {
+        return this.view().size();
+    }
+
+    /**
+     * Método responsável por retornar a maior chave da árvore.
+     * @return Retorna o maior valor de chave ou -1 caso a árvore esteja vazia.
+     */
+    @Override
+    public int highestKey() {
+        return this.view().highestKey();
+    }
+
+    /**
+     * Método responsável por retornar a menor chave da árvore.
+     * @return Retorna o menor valor de chave ou -1 caso a árvore esteja vazia.
+     */
+    @Override
+    public int firstKey() {
+        return this.view().firstKey();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de chaves menores que determinada chave.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave, iniciando em zero.
+     */
+    @Override
+    public int rank(final int key) {
+        return this.view().rank(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+     * @param index Refere-se a posição do elemento, iniciando em zero.
+     * @return      Retorna elemento ou nulo caso a posição seja inválida.
+     */
+    @Override
+    public E select(final int index) {
+        return this.view().select(index);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public E floor(final int key) {
+        return this.view().floor(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public E ceiling(final int key) {
+        return this.view().ceiling(key);
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves estão em determinado intervalo, conforme
+     * a versão da árvore no instante da chamada.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    @Override
+    public Iterable<E> subRange(final int fromKey, final int toKey) {
+        return this.view().subRange(fromKey, toKey);
+    }
+
+    /**
+     * Método responsável por retornar iterador sobre a versão atual da árvore, que não é afetado por
+     * escritas posteriores.
+     * @return Retorna iterador da árvore.
+     */
+    @Override
+    public TreeIterator<E> iterator() {
+        return this.view().iterator();
+    }
+
+    /**
+     * Método responsável por retornar divisor sobre a versão atual da árvore, que não é afetado por
+     * escritas posteriores.
+     * @return Retorna divisor da árvore.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return this.view().spliterator();
+    }
+
+    /**
+     * Classe responsável por comportar-se como versão somente leitura de uma árvore persistente. Como implementa
+     * apenas ReadableTree, não expõe operações de escrita; todas as consultas são delegadas a uma árvore de
+     * consulta sobre a raiz da versão, cujos nós jamais são alterados.
+     * @param <E> Refere-se ao tipo de elemento que a árvore armazena.
+     */
+    private static final class Snapshot<E> implements ReadableTree<E> {
+        private final Tree<E> tree;
+
+        /**
+         * Construtor responsável por inicializar a versão a partir de determinada raiz.
+         * @param root Refere-se a raiz da versão.
+         */
+        public Snapshot(final Node<E> root) {
+            this.tree = new Tree<>(root);
+        }
+
+        /**
+         * Método responsável por efetuar buscas na versão.
+         * @param key   Refere-se a chave do elemento.
+         * @return      Retorna elemento ou nulo caso a chave não exista.
+         */
+        @Override
+        public E search(final int key) {
+            return this.tree.search(key);
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de elementos contidos na versão.
+         * @return Retorna quantidade de elementos.
+         */
+        @Override
+        public int size() {
+            return this.tree.size();
+        }
+
+        /**
+         * Método responsável por retornar a maior chave da versão.
+         * @return Retorna o maior valor de chave ou -1 caso a versão esteja vazia.
+         */
+        @Override
+        public int highestKey() {
+            return this.tree.highestKey();
+        }
+
+        /**
+         * Método responsável por retornar a menor chave da versão.
+         * @return Retorna o menor valor de chave ou -1 caso a versão esteja vazia.
+         */
+        @Override
+        public int firstKey() {
+            return this.tree.firstKey();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de chaves da versão menores que determinada chave.
+         * @param key   Refere-se a chave.
+         * @return      Retorna posição da chave, iniciando em zero.
+         */
+        @Override
+        public int rank(final int key) {
+            return this.tree.rank(key);
+        }
+
+        /**
+         * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+         * @param index Refere-se a posição do elemento, iniciando em zero.
+         * @return      Retorna elemento ou nulo caso a posição seja inválida.
+         */
+        @Override
+        public E select(final int index) {
+            return this.tree.select(index);
+        }
+
+        /**
+         * Método responsável por retornar o elemento de maior chave menor ou igual a determinada chave.
+         * @param key   Refere-se a chave de referência.
+         * @return      Retorna elemento ou nulo caso não haja.
+         */
+        @Override
+        public E floor(final int key) {
+            return this.tree.floor(key);
+        }
+
+        /**
+         * Método responsável por retornar o elemento de menor chave maior ou igual a determinada chave.
+         * @param key   Refere-se a chave de referência.
+         * @return      Retorna elemento ou nulo caso não haja.
+         */
+        @Override
+        public E ceiling(final int key) {
+            return this.tree.ceiling(key);
+        }
+
+        /**
+         * Método responsável por retornar o elemento de menor chave estritamente maior que determinada chave.
+         * @param key   Refere-se a chave de referência.
+         * @return      Retorna elemento ou nulo caso não haja.
+         */
+        @Override
+        public E higher(final int key) {
+            return this.tree.higher(key);
+        }
+
+        /**
+         * Método responsável por retornar o elemento de maior chave estritamente menor que determinada chave.
+         * @param key   Refere-se a chave de referência.
+         * @return      Retorna elemento ou nulo caso não haja.
+         */
+        @Override
+        public E lower(final int key) {
+            return this.tree.lower(key);
+        }
+
+        /**
+         * Método responsável por retornar os elementos da versão cujas chaves estão em determinado intervalo, em
+         * ordem crescente de chave.
+         * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+         * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+         * @return          Retorna elementos do intervalo.
+         */
+        @Override
+        public Iterable<E> subRange(final int fromKey, final int toKey) {
+            return this.tree.subRange(fromKey, toKey);
+        }
+
+        /**
+         * Método responsável por retornar iterador que percorre os elementos da versão em ordem crescente de chave.
+         * @return Retorna iterador da versão.
+         */
+        @Override
+        public TreeIterator<E> iterator() {
+            return this.tree.iterator();
+        }
+
+        /**
+         * Método responsável por retornar divisor que reparte a versão em subárvores, permitindo o processamento
+         * paralelo.
+         * @return Retorna divisor da versão.
+         */
+        @Override
+        public Spliterator<E> spliterator() {
+            return this.tree.spliterator();
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Classe responsável por ler determinado fluxo em uma thread própria, entregando seus dados em blocos por
+ * meio de uma fila limitada. Assim, um estágio custoso da leitura (como a descompressão) é executado em
+ * paralelo com quem consome os dados, e a fila limita quanto a leitura pode se adiantar ao consumo.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class PipelinedInputChannel implements ReadableByteChannel {
+    private static final int CHUNK_SIZE = 1 << 18;
+    private static final int CAPACITY = 4;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+    private final InputStream inputStream;
+    private final BlockingQueue<ByteBuffer> filled;
+    private final BlockingQueue<ByteBuffer> free;
+    private final Thread producer;
+    private volatile IOException failure;
+    private ByteBuffer current;
+    private boolean open;
+
+    /**
+     * Construtor responsável por inicializar o canal e iniciar a thread que lê determinado fluxo.
+     * @param inputStream Refere-se ao fluxo que será lido.
+     */
+    public PipelinedInputChannel(final InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.filled = new ArrayBlockingQueue<>(CAPACITY + 1);
+        this.free = new ArrayBlockingQueue<>(CAPACITY + 1);
+        for (int i = 0; i < CAPACITY; i++) {
+            this.free.add(ByteBuffer.allocate(CHUNK_SIZE));
+        }
+        this.failure = null;
+        this.current = null;
+        this.open = true;
+        this.producer = new Thread(this::produce, "catalog-reader");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    /**
+     * Método executado pela thread de leitura: preenche blocos livres com os dados do fluxo e os coloca na
+     * fila, sinalizando o fim do fluxo (ou a falha de leitura) com um bloco vazio.
+     */
+    private void produce() {
+        try {
+            while (true) {
+                final ByteBuffer chunk = this.free.take();
+                chunk.clear();
+                int read = 0;
+                while (chunk.hasRemaining() && (read = this.inputStream.read(chunk.array(), chunk.position(), chunk.remaining())) >= 0) {
+                    chunk.position(chunk.position() + read);
+                }
+                chunk.flip();
+                if (chunk.hasRemaining()) {
+                    this.filled.put(chunk);
+                }
+                if (read < 0) {
+                    this.filled.put(END);
+                    return;
+                }
+            }
+        } catch (final IOException exception) {
+            this.failure = exception;
+            this.filled.offer(END);
+        } catch (final InterruptedException exception) {
+            //O CANAL FOI FECHADO ANTES DO FIM DO FLUXO
+        }
+    }
+
+    /**
+     * Método responsável por transferir para determinado buffer os próximos bytes lidos.
+     * @param destination   Refere-se ao buffer de destino.
+     * @return              Retorna quantidade de bytes transferidos ou -1 ao fim do fluxo.
+     * @throws IOException  Caso a leitura do fluxo tenha falhado ou a espera seja interrompida.
+     */
+    @Override
+    public int read(final ByteBuffer destination) throws IOException {
+        if (!this.open) {
+            throw new ClosedChannelException();
+        }
+        while (this.current == null || !this.current.hasRemaining()) {
+            if (this.current == END) {
+                return -1;
+            } else if (this.current != null) {
+                this.free.offer(this.current);
+            }
+            try {
+                this.current = this.filled.take();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (this.current == END && this.failure != null) {
+                throw new IOException(this.failure);
+            }
+        }
+        final int length = Math.min(destination.remaining(), this.current.remaining());
+        destination.put(this.current.array(), this.current.position(), length);
+        this.current.position(this.current.position() + length);
+        return length;
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se o canal está aberto.
+     * @return Retorna dado boleano.
+     */
+    @Override
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    /**
+     * Método responsável por fechar o canal, encerrando a thread de leitura e fechando o fluxo.
+     * @throws IOException Caso ocorra falha ao fechar o fluxo.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.open) {
+            this.open = false;
+            this.producer.interrupt();
+            try {
+                this.producer.join();       //O FLUXO SÓ É FECHADO QUANDO NÃO ESTÁ MAIS EM USO PELA THREAD DE LEITURA
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            this.inputStream.close();
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Classe responsável por gravar em determinado fluxo, por meio de uma thread própria, os dados recebidos
+ * em blocos através de uma fila limitada. Assim, um estágio custoso da gravação (como a compressão) é
+ * executado em paralelo com quem produz os dados, e a fila limita quanto a produção pode se adiantar.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class PipelinedOutputStream extends OutputStream {
+    private static final int CHUNK_SIZE = 1 << 18;
+    private static final int CAPACITY = 4;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+    private final OutputStream outputStream;
+    private final BlockingQueue<ByteBuffer> filled;
+    private final BlockingQueue<ByteBuffer> free;
+    private final Thread consumer;
+    private volatile IOException failure;
+    private ByteBuffer current;
+    private boolean open;
+
+    /**
+     * Construtor responsável por inicializar o fluxo e iniciar a thread que grava em determinado fluxo.
+     * @param outputStream Refere-se ao fluxo que receberá os dados; é fechado ao fechar este fluxo.
+     */
+    public PipelinedOutputStream(final OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.filled = new ArrayBlockingQueue<>(CAPACITY + 1);
+        this.free = new ArrayBlockingQueue<>(CAPACITY + 1);
+        for (int i = 0; i < CAPACITY; i++) {
+            this.free.add(ByteBuffer.allocate(CHUNK_SIZE));
+        }
+        this.failure = null;
+        this.current = this.free.poll();
+        this.open = true;
+        this.consumer = new Thread(this::consume, "catalog-writer");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Método executado pela thread de gravação: grava os blocos da fila no fluxo até receber o bloco vazio
+     * que sinaliza o fim, fechando então o fluxo. Após uma falha, os blocos seguintes são descartados.
+     */
+    private void consume() {
+        try {
+            for (ByteBuffer chunk = this.filled.take(); chunk != END; chunk = this.filled.take()) {
+                if (this.failure == null) {
+                    try {
+                        this.outputStream.write(chunk.array(), 0, chunk.limit());
+                    } catch (final IOException exception) {
+                        this.failure = exception;
+                    }
+                }
+                this.free.put(chunk);
+            }
+            if (this.failure == null) {
+                this.outputStream.close();
+            }
+        } catch (final IOException exception) {
+            this.failure = exception;
+        } catch (final InterruptedException exception) {
+            //O FLUXO FOI ABANDONADO ANTES DO FIM
+        }
+    }
+
+    /**
+     * Método responsável por gravar determinado byte.
+     * @param value         Refere-se ao byte.
+     * @throws IOException  Caso a gravação tenha falhado.
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        if (!this.current.hasRemaining()) {
+            this.handOff();
+        }
+        this.current.put((byte) value);
+    }
+
+    /**
+     * Método responsável por gravar determinado intervalo de bytes.
+     * @param bytes         Refere-se aos bytes.
+     * @param offset        Refere-se a posição inicial do intervalo.
+     * @param length        Refere-se a quantidade de bytes do intervalo.
+     * @throws IOException  Caso a gravação tenha falhado.
+     */
+    @Override
+    public void write(final byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!this.current.hasRemaining()) {
+                this.handOff();
+            }
+            final int count = Math.min(length, this.current.remaining());
+            this.current.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Método responsável por entregar o bloco atual a thread de gravação e obter um bloco livre.
+     * @throws IOException Caso a gravação tenha falhado ou a espera seja interrompida.
+     */
+    private void handOff() throws IOException {
+        if (this.failure != null) {
+            throw new IOException(this.failure);
+        }
+        this.current.flip();
+        try {
+            this.filled.put(this.current);
+            this.current = this.free.take();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        this.current.clear();
+    }
+
+    /**
+     * Método responsável por entregar os dados restantes, aguardar a conclusão da gravação e fechar o fluxo.
+     * @throws IOException Caso a gravação tenha falhado ou a espera seja interrompida.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.open) {
+            return;
+        }
+        this.open = false;
+        try {
+            if (this.current.position() > 0) {
+                this.current.flip();
+                this.filled.put(this.current);
+            }
+            this.filled.put(END);
+            this.consumer.join();
+        } catch (final InterruptedException exception) {
+            this.consumer.interrupt();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        if (this.failure != null) {
+            throw new IOException(this.failure);
+        }
+    }
+
+}
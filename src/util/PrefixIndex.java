@@ -0,0 +1,474 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import model.Ebook;
+
+/**
+ * Classe responsável por sugerir complementos para o início de determinado campo dos ebooks (como o autor ou o
+ * título). Os valores do campo são normalizados (vide TextFolding) e mantidos em ordem em um mapa concorrente, de
+ * modo que os valores iniciados por determinado prefixo formam um intervalo contíguo, localizado em tempo
+ * logarítmico. Cada valor guarda o texto original e a quantidade de ebooks que o possuem. Como os complementos são
+ * ordenados por frequência, encontrá-los exige percorrer todo o intervalo do prefixo; por isso, os prefixos cujo
+ * intervalo excede CACHE_THRESHOLD valores guardam seus complementos mais frequentes. Na carga do catálogo, todos
+ * esses prefixos são calculados de uma só vez, dos mais longos aos mais curtos, cada um a partir dos prefixos um
+ * caractere mais longos; depois, os complementos guardados são mantidos a cada inserção e remoção, e um prefixo só
+ * é descartado quando as remoções deixam menos complementos guardados do que os solicitados nas consultas. Um
+ * prefixo descartado ou que cresceu desde a carga é recalculado na consulta, também a partir dos prefixos um
+ * caractere mais longos que estejam guardados. Registrado como ouvinte de um EbookTreeStream, o índice acompanha
+ * todas as alterações do catálogo. Como cada valor distinto é mantido em memória (original e normalizado), o
+ * índice pode ser desativado (vide setEnabled) quando o catálogo deve ocupar memória proporcional apenas a
+ * quantidade de ebooks, como em modo mapeado.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class PrefixIndex implements CatalogListener {
+    private static final Comparator<Completion> RELEVANCE = Comparator.comparingInt(Completion::getCount)
+            .thenComparing((Completion completion) -> completion.key, Comparator.reverseOrder());
+    private static final int CACHE_THRESHOLD = 64;
+    private static final Completion[] EMPTY = new Completion[0];
+    private final Function<? super Ebook, String> textFunction;
+    private final int capacity;
+    private final int retained;
+    private final ConcurrentMap<String, Completion[]> cache;
+    private volatile ConcurrentNavigableMap<String, Completion> completions;
+    private boolean enabled;
+
+    /**
+     * Construtor responsável por inicializar o índice vazio.
+     * @param textFunction  Refere-se a função que extrai de cada ebook o campo indexado.
+     * @param capacity      Refere-se a maior quantidade de complementos solicitada nas consultas (consultas maiores
+     *                      percorrem todo o intervalo). Cada prefixo guarda o dobro, reservando-se a metade para as
+     *                      remoções.
+     */
+    public PrefixIndex(final Function<? super Ebook, String> textFunction, final int capacity) {
+        this.textFunction = textFunction;
+        this.capacity = capacity;
+        this.retained = capacity * 2;
+        this.cache = new ConcurrentHashMap<>();
+        this.completions = new ConcurrentSkipListMap<>();
+        this.enabled = true;
+    }
+
+    /**
+     * Método responsável por ativar ou desativar o índice. Desativado, o índice descarta seus valores e ignora
+     * as alterações do catálogo, não sugerindo complementos; reativado, permanece vazio até a próxima carga do
+     * catálogo (vide loaded), que deve ocorrer em seguida.
+     * @param enabled Refere-se ao indicador de que o índice deve acompanhar o catálogo.
+     */
+    public synchronized void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {                                         //LIBERA OS VALORES GUARDADOS
+            this.completions = new ConcurrentSkipListMap<>();
+            this.cache.clear();
+        }
+    }
+
+    /**
+     * Método responsável por retornar se o índice está ativo.
+     * @return Retorna dado boleano que indica se o índice acompanha o catálogo.
+     */
+    public synchronized boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Método responsável por retornar os complementos de determinado prefixo, desconsiderando maiúsculas e
+     * acentos, do valor mais frequente ao menos frequente (e, em caso de empate, em ordem alfabética).
+     * @param prefix    Refere-se ao prefixo digitado.
+     * @param limit     Refere-se a quantidade máxima de complementos.
+     * @return          Retorna complementos do prefixo.
+     */
+    public List<Completion> complete(final String prefix, final int limit) {
+        final String key = normalize(prefix);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        } else if (limit > this.capacity) {                     //CONSULTAS MAIORES NÃO SÃO ATENDIDAS PELA CACHE
+            return Arrays.asList(this.scan(key, limit));
+        }
+        Completion[] best = this.cache.get(key);
+        if (best == null) {
+            synchronized (this) {                               //EVITA GUARDAR UM RESULTADO JÁ ALTERADO
+                best = this.cache.get(key);
+                if (best == null) {
+                    best = this.collect(key);
+                }
+            }
+        }
+        return Arrays.asList(Arrays.copyOf(best, Math.min(limit, best.length)));
+    }
+
+    /**
+     * Método responsável por percorrer todo o intervalo de determinado prefixo normalizado, mantendo os valores
+     * mais frequentes.
+     * @param key       Refere-se ao prefixo normalizado.
+     * @param limit     Refere-se a quantidade máxima de complementos.
+     * @return          Retorna complementos do prefixo, do mais ao menos frequente.
+     */
+    private Completion[] scan(final String key, final int limit) {
+        final PriorityQueue<Completion> best = new PriorityQueue<>(RELEVANCE);   //MANTÉM OS N MAIS FREQUENTES
+        for (final Completion completion : this.completions.tailMap(key).values()) {
+            if (!completion.key.startsWith(key)) {              //FIM DO INTERVALO DO PREFIXO
+                break;
+            }
+            offer(best, completion, limit);
+        }
+        return drain(best);
+    }
+
+    /**
+     * Método responsável por calcular os complementos de determinado prefixo normalizado ausente da cache. Os
+     * trechos do intervalo cujos prefixos um caractere mais longos estão guardados são saltados, aproveitando-se os
+     * complementos guardados; os demais valores são percorridos. O resultado é guardado caso o intervalo seja
+     * extenso.
+     * @param key   Refere-se ao prefixo normalizado.
+     * @return      Retorna complementos do prefixo, do mais ao menos frequente.
+     */
+    private Completion[] collect(final String key) {
+        final PriorityQueue<Completion> best = new PriorityQueue<>(RELEVANCE);
+        final int depth = key.length();
+        Completion bound = null;                                //MENOR COMPLEMENTO GUARDADO APROVEITADO
+        int scanned = 0;
+        int current = -1;
+        Iterator<Completion> iterator = this.completions.tailMap(key).values().iterator();
+        while (iterator.hasNext()) {
+            final Completion completion = iterator.next();
+            if (!completion.key.startsWith(key)) {              //FIM DO INTERVALO DO PREFIXO
+                break;
+            }
+            if (completion.key.length() > depth && completion.key.charAt(depth) != current) {
+                current = completion.key.charAt(depth);         //INÍCIO DO TRECHO DE OUTRO PREFIXO MAIS LONGO
+                final Completion[] cached = this.cache.get(completion.key.substring(0, depth + 1));
+                if (cached != null && cached.length > 0 && current < Character.MAX_VALUE) {
+                    for (final Completion other : cached) {
+                        offer(best, other, this.retained);
+                    }
+                    final Completion last = cached[cached.length - 1];
+                    bound = bound == null || RELEVANCE.compare(last, bound) > 0 ? last : bound;
+                    iterator = this.completions.tailMap(key + (char) (current + 1)).values().iterator();
+                    continue;
+                }
+            }
+            scanned++;
+            offer(best, completion, this.retained);
+        }
+        Completion[] result = drain(best);
+        if (bound != null) {
+            int size = 0;
+            while (size < result.length && RELEVANCE.compare(result[size], bound) >= 0) {
+                size++;                                         //OS COMPLEMENTOS ABAIXO DO LIMITE PODEM ESTAR INCOMPLETOS
+            }
+            result = size < this.capacity ? this.scan(key, this.retained) : Arrays.copyOf(result, size);
+        }
+        if (bound != null || scanned > CACHE_THRESHOLD) {
+            this.cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Método responsável por oferecer determinado complemento a uma fila que mantém os mais frequentes.
+     * @param best          Refere-se a fila, cujo primeiro elemento é o menos frequente.
+     * @param completion    Refere-se ao complemento.
+     * @param limit         Refere-se a quantidade máxima de complementos da fila.
+     */
+    private static void offer(final PriorityQueue<Completion> best, final Completion completion, final int limit) {
+        if (best.size() < limit) {
+            best.add(completion);
+        } else if (RELEVANCE.compare(completion, best.peek()) > 0) {
+            best.poll();
+            best.add(completion);
+        }
+    }
+
+    /**
+     * Método responsável por esvaziar determinada fila, retornando seus complementos.
+     * @param best  Refere-se a fila.
+     * @return      Retorna complementos da fila, do mais ao menos frequente.
+     */
+    private static Completion[] drain(final PriorityQueue<Completion> best) {
+        final Completion[] result = new Completion[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {          //A FILA RETORNA DO MENOS PARA O MAIS FREQUENTE
+            result[i] = best.poll();
+        }
+        return result;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores distintos do campo indexado.
+     * @return Retorna quantidade de valores.
+     */
+    public int size() {
+        return this.completions.size();
+    }
+
+    /**
+     * Método responsável por contabilizar o valor do campo de determinado ebook inserido no catálogo.
+     * @param ebook Refere-se ao ebook inserido.
+     */
+    @Override
+    public synchronized void inserted(final Ebook ebook) {
+        if (!this.enabled) {
+            return;
+        }
+        final String text = this.textFunction.apply(ebook);
+        final Completion completion = this.completions.compute(normalize(text), (key, current) ->
+                current == null ? new Completion(key, text, 1) : new Completion(key, current.text, current.count + 1));
+        if (this.cache.isEmpty()) {
+            return;
+        }
+        for (int length = 0; length <= completion.key.length(); length++) {   //ATUALIZA OS PREFIXOS GUARDADOS DO VALOR
+            this.cache.computeIfPresent(completion.key.substring(0, length),
+                    (prefix, best) -> this.promote(best, completion));
+        }
+    }
+
+    /**
+     * Método responsável por descontar o valor do campo de determinado ebook removido do catálogo.
+     * @param ebook Refere-se ao ebook removido.
+     */
+    @Override
+    public synchronized void removed(final Ebook ebook) {
+        if (!this.enabled) {
+            return;
+        }
+        final String text = normalize(this.textFunction.apply(ebook));
+        final Completion completion = this.completions.computeIfPresent(text, (key, current) ->
+                current.count == 1 ? null : new Completion(key, current.text, current.count - 1));
+        if (this.cache.isEmpty()) {
+            return;
+        }
+        for (int length = 0; length <= text.length(); length++) {   //ATUALIZA OS PREFIXOS GUARDADOS DO VALOR
+            this.cache.computeIfPresent(text.substring(0, length), (prefix, best) -> this.demote(best, text, completion));
+        }
+    }
+
+    /**
+     * Método responsável por reconstruir o índice a partir de todo o conteúdo do catálogo. Os valores são
+     * normalizados em paralelo e ordenados, de modo que cada valor distinto é contabilizado em uma única passagem e
+     * o mapa é preenchido em ordem, sem procurar a posição de cada valor entre os já inseridos. Em seguida, os
+     * complementos de todos os prefixos extensos são guardados (vide warm). O novo índice só substitui o anterior
+     * quando está completo.
+     * @param catalog Refere-se ao catálogo.
+     */
+    @Override
+    public synchronized void loaded(final KeyedTree<Ebook> catalog) {
+        if (!this.enabled) {
+            return;
+        }
+        final String[][] values = catalog.parallelStream()
+                .map(this.textFunction)
+                .map((text) -> new String[]{normalize(text), text})
+                .toArray(String[][]::new);
+        //A ORDENAÇÃO ESTÁVEL MANTÉM O PRIMEIRO TEXTO DE CADA VALOR
+        Arrays.parallelSort(values, Comparator.comparing((String[] value) -> value[0]));
+        final List<Completion> distinct = new ArrayList<>();
+        for (int start = 0, end; start < values.length; start = end) {
+            end = start + 1;
+            while (end < values.length && values[end][0].equals(values[start][0])) {
+                end++;
+            }
+            distinct.add(new Completion(values[start][0], values[start][1], end - start));
+        }
+        final Completion[] sorted = distinct.toArray(EMPTY);
+        final ConcurrentNavigableMap<String, Completion> result = new ConcurrentSkipListMap<>();
+        for (final Completion completion : sorted) {
+            result.put(completion.key, completion);
+        }
+        this.completions = result;
+        this.cache.clear();
+        this.warm(sorted, 0, sorted.length, 0);
+    }
+
+    /**
+     * Método responsável por guardar os complementos de determinado prefixo, caso seu intervalo seja extenso, e de
+     * todos os prefixos mais longos cujos intervalos também o sejam. Os complementos de cada prefixo são obtidos dos
+     * complementos dos prefixos um caractere mais longos já guardados e dos valores dos demais, de modo que cada
+     * valor é percorrido uma única vez.
+     * @param sorted    Refere-se aos valores do índice, em ordem.
+     * @param start     Refere-se a posição do primeiro valor do intervalo do prefixo.
+     * @param end       Refere-se a posição seguinte ao último valor do intervalo do prefixo.
+     * @param depth     Refere-se ao comprimento do prefixo, comum a todos os valores do intervalo.
+     * @return          Retorna complementos guardados do prefixo ou nulo caso o intervalo não seja extenso.
+     */
+    private Completion[] warm(final Completion[] sorted, final int start, final int end, final int depth) {
+        if (end - start <= CACHE_THRESHOLD) {
+            return null;
+        }
+        final PriorityQueue<Completion> best = new PriorityQueue<>(RELEVANCE);
+        int position = start;
+        if (sorted[position].key.length() == depth) {           //O PRÓPRIO PREFIXO É UM VALOR E PRECEDE OS DEMAIS
+            offer(best, sorted[position++], this.retained);
+        }
+        while (position < end) {
+            final int next = next(sorted, position, end, depth);
+            final Completion[] longer = this.warm(sorted, position, next, depth + 1);
+            if (longer == null) {
+                for (int i = position; i < next; i++) {
+                    offer(best, sorted[i], this.retained);
+                }
+            } else {
+                for (final Completion completion : longer) {
+                    offer(best, completion, this.retained);
+                }
+            }
+            position = next;
+        }
+        final Completion[] result = drain(best);
+        this.cache.put(sorted[start].key.substring(0, depth), result);
+        return result;
+    }
+
+    /**
+     * Método responsável por localizar, por busca binária, o fim do trecho de valores que compartilham o caractere
+     * de determinada posição.
+     * @param sorted    Refere-se aos valores do índice, em ordem.
+     * @param start     Refere-se a posição do primeiro valor do trecho.
+     * @param end       Refere-se a posição seguinte ao último valor do intervalo que contém o trecho.
+     * @param depth     Refere-se a posição do caractere, presente em todos os valores do intervalo.
+     * @return          Retorna posição seguinte ao último valor do trecho.
+     */
+    private static int next(final Completion[] sorted, final int start, final int end, final int depth) {
+        final char character = sorted[start].key.charAt(depth);
+        int low = start + 1;
+        int high = end;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sorted[middle].key.charAt(depth) == character) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Método responsável por incluir determinado complemento, cuja frequência aumentou, entre os complementos
+     * guardados de um prefixo. Como todo complemento ausente é menos frequente que o último guardado, um
+     * complemento ausente só é incluído caso passe a superá-lo.
+     * @param best          Refere-se aos complementos guardados, do mais ao menos frequente.
+     * @param completion    Refere-se ao complemento alterado.
+     * @return              Retorna complementos guardados atualizados.
+     */
+    private Completion[] promote(final Completion[] best, final Completion completion) {
+        final int index = indexOf(best, completion.key);
+        if (index < 0 && (best.length == 0 || RELEVANCE.compare(completion, best[best.length - 1]) < 0)) {
+            return best;
+        }
+        final List<Completion> result = new ArrayList<>(Arrays.asList(best));
+        if (index >= 0) {                                       //A VERSÃO ANTERIOR DO COMPLEMENTO É SUBSTITUÍDA
+            result.remove(index);
+        }
+        insert(result, completion);
+        return result.subList(0, Math.min(result.size(), this.retained)).toArray(EMPTY);
+    }
+
+    /**
+     * Método responsável por atualizar os complementos guardados de um prefixo após a frequência de determinado
+     * valor diminuir. O complemento só permanece guardado caso continue mais frequente que o último guardado
+     * (pois os ausentes podem superá-lo); caso contrário, é retirado.
+     * @param best          Refere-se aos complementos guardados, do mais ao menos frequente.
+     * @param key           Refere-se ao valor normalizado.
+     * @param completion    Refere-se ao complemento alterado ou nulo caso o valor tenha deixado o índice.
+     * @return              Retorna complementos guardados atualizados ou nulo caso restem menos complementos do
+     *                      que os solicitados nas consultas.
+     */
+    private Completion[] demote(final Completion[] best, final String key, final Completion completion) {
+        final int index = indexOf(best, key);
+        if (index < 0) {                                        //OS COMPLEMENTOS AUSENTES SÓ FICARAM MENOS FREQUENTES
+            return best;
+        }
+        final List<Completion> result = new ArrayList<>(Arrays.asList(best));
+        result.remove(index);
+        if (completion != null && index < best.length - 1 && RELEVANCE.compare(completion, best[best.length - 1]) > 0) {
+            insert(result, completion);
+        }
+        return result.size() < this.capacity ? null : result.toArray(EMPTY);
+    }
+
+    /**
+     * Método responsável por inserir determinado complemento em sua posição entre complementos ordenados.
+     * @param best          Refere-se aos complementos, do mais ao menos frequente.
+     * @param completion    Refere-se ao complemento.
+     */
+    private static void insert(final List<Completion> best, final Completion completion) {
+        int position = best.size();
+        while (position > 0 && RELEVANCE.compare(completion, best.get(position - 1)) > 0) {
+            position--;
+        }
+        best.add(position, completion);
+    }
+
+    /**
+     * Método responsável por localizar determinado valor entre os complementos guardados de um prefixo.
+     * @param best  Refere-se aos complementos guardados.
+     * @param key   Refere-se ao valor normalizado.
+     * @return      Retorna posição do valor ou -1 caso não esteja entre os complementos.
+     */
+    private static int indexOf(final Completion[] best, final String key) {
+        for (int i = 0; i < best.length; i++) {
+            if (best[i].key.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Método responsável por normalizar determinado texto para comparação de prefixos.
+     * @param text  Refere-se ao texto.
+     * @return      Retorna texto sem acentos, em minúsculas e sem espaços nas extremidades.
+     */
+    private static String normalize(final String text) {
+        return TextFolding.fold(text).trim();
+    }
+
+    /**
+     * Classe responsável por representar um complemento sugerido: o texto original e a quantidade de ebooks
+     * que o possuem.
+     */
+    public static final class Completion {
+        private final String key;
+        private final String text;
+        private final int count;
+
+        /**
+         * Construtor responsável por inicializar o complemento.
+         * @param key   Refere-se ao texto normalizado.
+         * @param text  Refere-se ao texto original.
+         * @param count Refere-se a quantidade de ebooks.
+         */
+        private Completion(final String key, final String text, final int count) {
+            this.key = key;
+            this.text = text;
+            this.count = count;
+        }
+
+        /**
+         * Método responsável por retornar o texto original do complemento.
+         * @return Retorna texto.
+         */
+        public String getText() {
+            return this.text;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de ebooks que possuem o complemento.
+         * @return Retorna quantidade de ebooks.
+         */
+        public int getCount() {
+            return this.count;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import model.Ebook;
+
+/**
+ * Classe responsável por comportar-se como um índice secundário cujos valores são mantidos em ordem, permitindo
+ * consultar intervalos de valores (como intervalos de anos) em tempo proporcional a quantidade de ebooks
+ * encontrados, e não ao tamanho do catálogo.
+ * @param <K> Refere-se ao tipo do campo indexado, comparável em sua ordem natural.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class RangeIndex<K extends Comparable<? super K>> extends SecondaryIndex<K> {
+
+    /**
+     * Construtor responsável por inicializar o índice vazio.
+     * @param keyFunction Refere-se a função que extrai de cada ebook o campo indexado.
+     */
+    public RangeIndex(final Function<? super Ebook, ? extends K> keyFunction) {
+        super(keyFunction, ConcurrentSkipListMap::new);
+    }
+
+    /**
+     * Método responsável por retornar os ebooks cujo campo indexado está em determinado intervalo.
+     * @param fromKey   Refere-se ao menor valor do intervalo (inclusivo).
+     * @param toKey     Refere-se ao maior valor do intervalo (inclusivo).
+     * @return          Retorna lista de ebooks em ordem crescente de valor e, para cada valor, de número.
+     */
+    public List<Ebook> range(final K fromKey, final K toKey) {
+        if (fromKey.compareTo(toKey) > 0) {
+            return Collections.emptyList();
+        }
+        final ConcurrentNavigableMap<K, Ebook[]> map = (ConcurrentNavigableMap<K, Ebook[]>) this.getMap();
+        final List<Ebook> result = new ArrayList<>();
+        for (final Ebook[] ebooks : map.subMap(fromKey, true, toKey, true).values()) {
+            Collections.addAll(result, ebooks);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,165 @@
+package util;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Interface responsável por definir as consultas das árvores ordenadas por chaves inteiras, sem qualquer
+ * operação de escrita. É implementada diretamente por versões imutáveis (como as de PersistentTree), de modo
+ * que quem as recebe não tem como tentar alterá-las.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore armazena.
+ */
+public interface ReadableTree<E> extends Iterable<E> {
+
+    /**
+     * Método responsável por efetuar buscas na árvore.
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna elemento.
+     */
+    E search(int key);
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos.
+     */
+    int size();
+
+    /**
+     * Método responsável por retornar a maior chave da árvore.
+     * @return Retorna o maior valor de chave ou -1 caso a árvore esteja vazia.
+     */
+    int highestKey();
+
+    /**
+     * Método responsável por retornar a menor chave da árvore.
+     * @return Retorna o menor valor de chave ou -1 caso a árvore esteja vazia.
+     */
+    int firstKey();
+
+    /**
+     * Método responsável por retornar a quantidade de chaves menores que determinada chave.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave, iniciando em zero.
+     */
+    int rank(int key);
+
+    /**
+     * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+     * @param index Refere-se a posição do elemento, iniciando em zero.
+     * @return      Retorna elemento ou nulo caso a posição seja inválida.
+     */
+    E select(int index);
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves estão em determinado intervalo, em ordem
+     * crescente de chave.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    Iterable<E> subRange(int fromKey, int toKey);
+
+    /**
+     * Método responsável por retornar dado boleano que indica se a árvore está vazia.
+     * @return Retorna dado boleano.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se a árvore detém determinado elemento
+     * @param key   Refere-se a chave do elemento.
+     * @return      Retorna dado boleano.
+     */
+    default boolean isContains(final int key) {
+        return this.search(key) != null;
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    default E floor(final int key) {
+        final int rank = key == Integer.MAX_VALUE ? this.size() : this.rank(key + 1);
+        return rank == 0 ? null : this.select(rank - 1);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    default E ceiling(final int key) {
+        return this.select(this.rank(key));
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave estritamente maior que determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    default E higher(final int key) {
+        return key == Integer.MAX_VALUE ? null : this.ceiling(key + 1);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave estritamente menor que determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    default E lower(final int key) {
+        return key == Integer.MIN_VALUE ? null : this.floor(key - 1);
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves são menores ou iguais a determinada chave.
+     * @param toKey Refere-se a maior chave do intervalo (inclusiva).
+     * @return      Retorna elementos do intervalo.
+     */
+    default Iterable<E> headRange(final int toKey) {
+        return this.subRange(Integer.MIN_VALUE, toKey);
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves são maiores ou iguais a determinada chave.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    default Iterable<E> tailRange(final int fromKey) {
+        return this.subRange(fromKey, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos da árvore. Por padrão, a divisão é feita em
+     * lotes a partir do iterador; implementações capazes de dividir sua própria estrutura devem sobrescrevê-lo.
+     * @return Retorna divisor da árvore.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Método responsável por retornar fluxo sequencial com os elementos da árvore em ordem crescente de chave.
+     * @return Retorna fluxo sequencial.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Método responsável por retornar fluxo paralelo com os elementos da árvore.
+     * @return Retorna fluxo paralelo.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+
+
+}
@@ -0,0 +1,131 @@
+package util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Classe responsável por armazenar resultados de consultas, descartando os menos usados recentemente quando a
+ * capacidade é excedida. Cada invalidação incrementa a geração da cache, e um resultado só é armazenado caso a
+ * geração não tenha mudado desde o início de sua consulta; assim, um resultado calculado simultaneamente a uma
+ * alteração nunca é armazenado já desatualizado.
+ * @param <K> Refere-se ao tipo da chave das consultas.
+ * @param <V> Refere-se ao tipo dos resultados.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class ResultCache<K, V> {
+    private final Map<K, V> entries;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Construtor responsável por inicializar a cache com determinada capacidade.
+     * @param capacity Refere-se a quantidade máxima de resultados armazenados.
+     */
+    public ResultCache(final int capacity) {
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                if (size() > capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.generation = 0;
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+    /**
+     * Método responsável por retornar o resultado de determinada consulta.
+     * @param key   Refere-se a chave da consulta.
+     * @return      Retorna resultado ou nulo caso não esteja armazenado.
+     */
+    public synchronized V get(final K key) {
+        final V value = this.entries.get(key);
+        if (value == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Método responsável por retornar a geração atual da cache, que deve ser obtida antes de iniciar a consulta.
+     * @return Retorna geração da cache.
+     */
+    public synchronized long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Método responsável por armazenar o resultado de determinada consulta, desde que não tenha havido
+     * invalidações desde o início da consulta.
+     * @param key           Refere-se a chave da consulta.
+     * @param value         Refere-se ao resultado.
+     * @param generation    Refere-se a geração da cache no início da consulta.
+     * @return              Retorna dado boleano que indica se o resultado foi armazenado.
+     */
+    public synchronized boolean put(final K key, final V value, final long generation) {
+        if (generation != this.generation) {
+            return false;
+        }
+        this.entries.put(key, value);
+        return true;
+    }
+
+    /**
+     * Método responsável por descartar o resultado de determinada consulta.
+     * @param key Refere-se a chave da consulta.
+     */
+    public synchronized void invalidate(final K key) {
+        this.generation++;
+        this.entries.remove(key);
+    }
+
+    /**
+     * Método responsável por descartar todos os resultados.
+     */
+    public synchronized void clear() {
+        this.generation++;
+        this.entries.clear();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de resultados armazenados.
+     * @return Retorna quantidade de resultados.
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de consultas atendidas pela cache.
+     * @return Retorna quantidade de acertos.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de consultas não atendidas pela cache.
+     * @return Retorna quantidade de falhas.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de resultados descartados por exceder a capacidade.
+     * @return Retorna quantidade de descartes.
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+}
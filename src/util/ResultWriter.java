@@ -0,0 +1,145 @@
+package util;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classe responsável por gravar listas de strings em arquivos por meio de uma thread própria, de modo que quem
+ * solicita a gravação não aguarda o disco. As gravações pendentes formam uma fila limitada, na ordem em que
+ * foram solicitadas: uma nova gravação de um arquivo que ainda aguarda na fila apenas substitui seu conteúdo
+ * (pois só o último conteúdo importa), e, com a fila cheia, quem solicita uma gravação aguarda até haver espaço.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class ResultWriter implements Closeable {
+    private final int capacity;
+    private final Map<String, Pending> pending;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Thread writer;
+    private boolean open;
+
+    /**
+     * Construtor responsável por inicializar a fila e iniciar a thread de gravação.
+     * @param capacity Refere-se a quantidade máxima de arquivos aguardando gravação.
+     */
+    public ResultWriter(final int capacity) {
+        this.capacity = capacity;
+        this.pending = new LinkedHashMap<>();
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+        this.open = true;
+        this.writer = new Thread(this::write, "result-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Método responsável por agendar a gravação de determinada lista em determinado arquivo. A lista não deve
+     * ser alterada após o agendamento. Caso a fila esteja cheia, aguarda até haver espaço; caso a gravação já
+     * tenha sido encerrada, a lista é gravada imediatamente.
+     * @param fileName      Refere-se ao nome do arquivo.
+     * @param stringStream  Refere-se a lista a ser gravada.
+     * @return              Retorna resultado futuro da gravação, compartilhado pelas gravações agrupadas.
+     */
+    public CompletableFuture<Boolean> submit(final String fileName, final StringStream stringStream) {
+        this.lock.lock();
+        try {
+            final Pending current = this.pending.get(fileName);
+            if (current != null) {                              //AGRUPA COM A GRAVAÇÃO AINDA NÃO INICIADA
+                current.stringStream = stringStream;
+                return current.result;
+            }
+            while (this.open && this.pending.size() >= this.capacity) {
+                this.notFull.awaitUninterruptibly();
+            }
+            if (this.open) {
+                final Pending entry = new Pending(stringStream);
+                this.pending.put(fileName, entry);
+                this.notEmpty.signal();
+                return entry.result;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return CompletableFuture.completedFuture(stringStream.saveFromFile(fileName));
+    }
+
+    /**
+     * Método executado pela thread de gravação: grava os arquivos na ordem da fila até o encerramento,
+     * concluindo o resultado de cada gravação.
+     */
+    private void write() {
+        while (true) {
+            final String fileName;
+            final Pending entry;
+            this.lock.lock();
+            try {
+                while (this.open && this.pending.isEmpty()) {
+                    this.notEmpty.awaitUninterruptibly();
+                }
+                if (this.pending.isEmpty()) {                   //ENCERRADA E SEM GRAVAÇÕES PENDENTES
+                    return;
+                }
+                final Iterator<Map.Entry<String, Pending>> iterator = this.pending.entrySet().iterator();
+                final Map.Entry<String, Pending> first = iterator.next();
+                iterator.remove();
+                fileName = first.getKey();
+                entry = first.getValue();
+                this.notFull.signal();
+            } finally {
+                this.lock.unlock();
+            }
+            try {
+                entry.result.complete(entry.stringStream.saveFromFile(fileName));
+            } catch (final RuntimeException exception) {
+                entry.result.completeExceptionally(exception);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por encerrar a gravação, aguardando que todas as gravações pendentes sejam concluídas.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.open = false;
+            this.notEmpty.signalAll();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.writer.join();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Classe responsável por representar uma gravação pendente.
+     */
+    private static class Pending {
+        private final CompletableFuture<Boolean> result;
+        private StringStream stringStream;
+
+        /**
+         * Construtor responsável por inicializar a gravação pendente de determinada lista.
+         * @param stringStream Refere-se a lista a ser gravada.
+         */
+        private Pending(final StringStream stringStream) {
+            this.result = new CompletableFuture<>();
+            this.stringStream = stringStream;
+        }
+
+    }
+
+}
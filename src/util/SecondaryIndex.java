@@ -0,0 +1,201 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import model.Ebook;
+
+/**
+ * Classe responsável por comportar-se como um índice secundário do catálogo, associando cada valor de
+ * determinado campo (como o autor) aos ebooks que o possuem, em ordem crescente de número. Cada valor guarda um
+ * vetor imutável, substituído por uma cópia a cada alteração, de modo que as consultas não precisam de bloqueio
+ * e nunca observam um vetor parcialmente alterado. Registrado como ouvinte de um EbookTreeStream, o índice
+ * acompanha todas as alterações do catálogo. Como cada valor distinto é mantido em memória, o índice pode ser
+ * desativado (vide setEnabled) quando o catálogo deve ocupar memória proporcional apenas a quantidade de ebooks.
+ * @param <K> Refere-se ao tipo do campo indexado.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class SecondaryIndex<K> implements CatalogListener {
+    private static final Ebook[] EMPTY = new Ebook[0];
+    private final Function<? super Ebook, ? extends K> keyFunction;
+    private final Supplier<? extends ConcurrentMap<K, Ebook[]>> mapFactory;
+    private volatile ConcurrentMap<K, Ebook[]> map;
+    private volatile boolean enabled;
+
+    /**
+     * Construtor responsável por inicializar o índice vazio.
+     * @param keyFunction   Refere-se a função que extrai de cada ebook o campo indexado.
+     * @param mapFactory    Refere-se a função que cria o mapa concorrente que armazena o índice.
+     */
+    public SecondaryIndex(final Function<? super Ebook, ? extends K> keyFunction,
+            final Supplier<? extends ConcurrentMap<K, Ebook[]>> mapFactory) {
+        this.keyFunction = keyFunction;
+        this.mapFactory = mapFactory;
+        this.map = mapFactory.get();
+        this.enabled = true;
+    }
+
+    /**
+     * Método responsável por ativar ou desativar o índice. Desativado, o índice descarta seus valores e ignora
+     * as alterações do catálogo; reativado, permanece vazio até a próxima carga do catálogo (vide loaded), que
+     * deve ocorrer em seguida.
+     * @param enabled Refere-se ao indicador de que o índice deve acompanhar o catálogo.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {                                         //LIBERA OS VALORES GUARDADOS
+            this.map = this.mapFactory.get();
+        }
+    }
+
+    /**
+     * Método responsável por retornar se o índice está ativo.
+     * @return Retorna dado boleano que indica se o índice acompanha o catálogo.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Método responsável por retornar o mapa que armazena o índice, para consultas de subclasses.
+     * @return Retorna mapa do índice.
+     */
+    protected ConcurrentMap<K, Ebook[]> getMap() {
+        return this.map;
+    }
+
+    /**
+     * Método responsável por retornar os ebooks que possuem determinado valor no campo indexado.
+     * @param key   Refere-se ao valor do campo.
+     * @return      Retorna lista imutável de ebooks em ordem crescente de número, vazia caso não haja.
+     */
+    public List<Ebook> get(final K key) {
+        final Ebook[] ebooks = this.map.get(key);
+        return ebooks == null ? Collections.<Ebook>emptyList() : Collections.unmodifiableList(Arrays.asList(ebooks));
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de ebooks que possuem determinado valor no campo indexado.
+     * @param key   Refere-se ao valor do campo.
+     * @return      Retorna quantidade de ebooks.
+     */
+    public int count(final K key) {
+        final Ebook[] ebooks = this.map.get(key);
+        return ebooks == null ? 0 : ebooks.length;
+    }
+
+    /**
+     * Método responsável por executar determinada ação para cada valor do campo indexado, sem ordem definida.
+     * @param action Refere-se a ação, que recebe o valor e a lista imutável de seus ebooks em ordem de número.
+     */
+    public void forEach(final BiConsumer<? super K, ? super List<Ebook>> action) {
+        this.map.forEach((key, ebooks) -> action.accept(key, Collections.unmodifiableList(Arrays.asList(ebooks))));
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores distintos do campo indexado.
+     * @return Retorna quantidade de valores.
+     */
+    public int size() {
+        return this.map.size();
+    }
+
+    /**
+     * Método responsável por incluir no índice determinado ebook inserido no catálogo.
+     * @param ebook Refere-se ao ebook inserido.
+     */
+    @Override
+    public void inserted(final Ebook ebook) {
+        if (!this.enabled) {
+            return;
+        }
+        this.map.compute(this.keyFunction.apply(ebook), (key, ebooks) -> {
+            final Ebook[] current = ebooks == null ? EMPTY : ebooks;
+            final int index = search(current, ebook.getNumber());
+            if (index >= 0) {                                   //O NÚMERO JÁ ESTAVA NO ÍNDICE
+                final Ebook[] result = current.clone();
+                result[index] = ebook;
+                return result;
+            }
+            final int position = -(index + 1);
+            final Ebook[] result = new Ebook[current.length + 1];
+            System.arraycopy(current, 0, result, 0, position);
+            result[position] = ebook;
+            System.arraycopy(current, position, result, position + 1, current.length - position);
+            return result;
+        });
+    }
+
+    /**
+     * Método responsável por excluir do índice determinado ebook removido do catálogo.
+     * @param ebook Refere-se ao ebook removido.
+     */
+    @Override
+    public void removed(final Ebook ebook) {
+        if (!this.enabled) {
+            return;
+        }
+        this.map.computeIfPresent(this.keyFunction.apply(ebook), (key, ebooks) -> {
+            final int index = search(ebooks, ebook.getNumber());
+            if (index < 0) {
+                return ebooks;
+            } else if (ebooks.length == 1) {                    //REMOVE O VALOR QUE FICARIA SEM EBOOKS
+                return null;
+            }
+            final Ebook[] result = new Ebook[ebooks.length - 1];
+            System.arraycopy(ebooks, 0, result, 0, index);
+            System.arraycopy(ebooks, index + 1, result, index, result.length - index);
+            return result;
+        });
+    }
+
+    /**
+     * Método responsável por reconstruir o índice a partir de todo o conteúdo do catálogo. O novo índice é
+     * construído à parte e só então substitui o anterior, de modo que as consultas nunca o observam incompleto.
+     * @param catalog Refere-se ao catálogo.
+     */
+    @Override
+    public void loaded(final KeyedTree<Ebook> catalog) {
+        if (!this.enabled) {
+            return;
+        }
+        final Map<K, List<Ebook>> groups = new HashMap<>();
+        for (final Ebook ebook : catalog) {                     //O CATÁLOGO É PERCORRIDO EM ORDEM DE NÚMERO
+            groups.computeIfAbsent(this.keyFunction.apply(ebook), (key) -> new ArrayList<>()).add(ebook);
+        }
+        final ConcurrentMap<K, Ebook[]> result = this.mapFactory.get();
+        groups.forEach((key, ebooks) -> result.put(key, ebooks.toArray(EMPTY)));
+        this.map = result;
+    }
+
+    /**
+     * Método responsável por efetuar a busca binária de determinado número em um vetor de ebooks.
+     * @param ebooks    Refere-se ao vetor em ordem crescente de número.
+     * @param number    Refere-se ao número procurado.
+     * @return          Retorna posição do número ou, caso não exista, -(posição de inserção + 1).
+     */
+    private static int search(final Ebook[] ebooks, final int number) {
+        int low = 0;
+        int high = ebooks.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int current = ebooks[middle].getNumber();
+            if (current < number) {
+                low = middle + 1;
+            } else if (current > number) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+}
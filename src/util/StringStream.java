@@ -3,10 +3,8 @@ package util;
 import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.util.ArrayList;
 
 /**
@@ -42,16 +40,21 @@ public class StringStream extends ArrayList<String> {
     }
 
     /**
-     * Método responsável por gravar arquivos de texto na memória de armazenamento.
+     * Método responsável por gravar arquivos de texto na memória de armazenamento. O arquivo de destino só
+     * é substituído após a gravação completa.
      * @param fileName Refere-se ao nome do arquivo de texto a ser gravado.
      * @return Retorna resultado da operação.
      */
     public boolean saveFromFile(final String fileName) {
-        try (PrintWriter fileStream = new PrintWriter(new FileOutputStream(fileName, false))) {
-            super.forEach((line) -> {
-                fileStream.println(line);
-            });
-        } catch (final FileNotFoundException exception) {
+        try (AtomicFileWriter writer = new AtomicFileWriter(fileName)) {
+            for (final String line : this) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.commit();
+        } catch (final IOException exception) {
+            return false;
+        } catch (final IllegalArgumentException exception) {     //NOME DE ARQUIVO INVÁLIDO
             return false;
         }
         return true;
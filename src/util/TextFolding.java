@@ -0,0 +1,64 @@
+package util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Classe responsável por normalizar textos para comparações que desconsideram maiúsculas e acentos, de modo que
+ * "Ação", "acao" e "ACAO" sejam equivalentes, bem como por dividir textos em palavras normalizadas.
+ * @author Everton Bruno Silva dos Santos
+ */
+public final class TextFolding {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Construtor privado, pois a classe só possui métodos estáticos.
+     */
+    private TextFolding() {
+    }
+
+    /**
+     * Método responsável por normalizar determinado texto, removendo acentos e convertendo-o em minúsculas.
+     * @param text  Refere-se ao texto.
+     * @return      Retorna texto normalizado.
+     */
+    public static String fold(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {           //SÓ TEXTOS COM CARACTERES NÃO ASCII PRECISAM SER DECOMPOSTOS
+                final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+                return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+            }
+        }
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Método responsável por dividir determinado texto em palavras normalizadas, compostas apenas por letras e
+     * dígitos, na ordem em que aparecem (inclusive repetidas).
+     * @param text  Refere-se ao texto.
+     * @return      Retorna palavras do texto.
+     */
+    public static List<String> tokens(final String text) {
+        final String folded = fold(text);
+        final List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < folded.length(); i++) {
+            if (Character.isLetterOrDigit(folded.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(folded.substring(start));
+        }
+        return tokens;
+    }
+
+}
@@ -0,0 +1,435 @@
+package util;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import model.Ebook;
+
+/**
+ * Classe responsável por comportar-se como um índice invertido das palavras dos títulos do catálogo, associando
+ * cada palavra normalizada (vide TextFolding) aos números dos ebooks cujo título a contém. Os números de cada
+ * palavra são armazenados em ordem crescente, comprimidos como diferenças sucessivas em inteiros de tamanho
+ * variável; as alterações recentes ficam em pequenos vetores à parte, incorporados a lista comprimida quando
+ * excedem certo tamanho. Cada lista é imutável e substituída a cada alteração, de modo que as consultas não
+ * precisam de bloqueio. Registrado como ouvinte de um EbookTreeStream, o índice é reconstruído em paralelo a cada
+ * carga completa e atualizado incrementalmente a cada inserção ou remoção. Como cada palavra distinta é mantida em
+ * memória, o índice pode ser desativado (vide setEnabled); nesse caso, as buscas percorrem o catálogo (vide scan).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class TitleIndex implements CatalogListener {
+    private volatile ConcurrentMap<String, Postings> postings;
+    private final AtomicInteger documents;
+    private volatile boolean enabled;
+
+    /**
+     * Construtor responsável por inicializar o índice vazio.
+     */
+    public TitleIndex() {
+        this.postings = new ConcurrentHashMap<>();
+        this.documents = new AtomicInteger();
+        this.enabled = true;
+    }
+
+    /**
+     * Método responsável por ativar ou desativar o índice. Desativado, o índice descarta suas palavras e ignora
+     * as alterações do catálogo; reativado, permanece vazio até a próxima carga do catálogo (vide loaded), que
+     * deve ocorrer em seguida.
+     * @param enabled Refere-se ao indicador de que o índice deve acompanhar o catálogo.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {                                         //LIBERA AS PALAVRAS GUARDADAS
+            this.postings = new ConcurrentHashMap<>();
+            this.documents.set(0);
+        }
+    }
+
+    /**
+     * Método responsável por retornar se o índice está ativo.
+     * @return Retorna dado boleano que indica se o índice acompanha o catálogo.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Método responsável por buscar os ebooks cujos títulos contêm as palavras de determinada consulta. Por padrão,
+     * todas as palavras devem estar no título; caso a consulta contenha a palavra OR (ou OU), em maiúsculas, basta
+     * uma delas. Os resultados são ordenados pela soma da raridade (idf) das palavras encontradas em cada título e,
+     * em caso de empate, pelo número do ebook.
+     * @param query Refere-se a consulta, com as palavras separadas por espaços.
+     * @param limit Refere-se a quantidade máxima de resultados.
+     * @return      Retorna números dos ebooks encontrados, do mais relevante ao menos relevante.
+     */
+    public int[] search(final String query, final int limit) {
+        final Set<String> terms = new LinkedHashSet<>();
+        final boolean any = parse(query, terms);
+        if (terms.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        final ConcurrentMap<String, Postings> current = this.postings;
+        final List<int[]> lists = new ArrayList<>();
+        final List<Double> weights = new ArrayList<>();
+        for (final String term : terms) {
+            final Postings entry = current.get(term);
+            if (entry == null) {
+                if (!any) {                             //UMA PALAVRA AUSENTE ESVAZIA A INTERSEÇÃO
+                    return new int[0];
+                }
+                continue;
+            }
+            final int[] numbers = entry.toArray();
+            lists.add(numbers);
+            weights.add(Math.log(1.0 + (double) this.documents.get() / numbers.length));
+        }
+        return any ? this.union(lists, weights, limit) : this.intersection(lists, limit);
+    }
+
+    /**
+     * Método responsável por buscar, sem consultar o índice, os ebooks de determinado catálogo cujos títulos contêm
+     * as palavras de determinada consulta, com as mesmas regras de search. Como a raridade das palavras não é
+     * conhecida sem o índice, os resultados são retornados em ordem crescente de número.
+     * @param catalog   Refere-se ao catálogo, percorrido em ordem de número.
+     * @param query     Refere-se a consulta, com as palavras separadas por espaços.
+     * @param limit     Refere-se a quantidade máxima de resultados.
+     * @return          Retorna números dos ebooks encontrados, em ordem crescente.
+     */
+    public static int[] scan(final Iterable<? extends Ebook> catalog, final String query, final int limit) {
+        final Set<String> terms = new LinkedHashSet<>();
+        final boolean any = parse(query, terms);
+        if (terms.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        final int[] result = new int[limit];
+        int size = 0;
+        for (final Ebook ebook : catalog) {
+            final List<String> words = TextFolding.tokens(ebook.getTitle());
+            if (any ? !Collections.disjoint(words, terms) : words.containsAll(terms)) {
+                result[size++] = ebook.getNumber();
+                if (size == limit) {                    //INTERROMPE A LEITURA AO ATINGIR O LIMITE
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Método responsável por separar as palavras normalizadas de determinada consulta.
+     * @param query Refere-se a consulta, com as palavras separadas por espaços.
+     * @param terms Refere-se ao conjunto que recebe as palavras.
+     * @return      Retorna dado boleano que indica se basta uma das palavras (OR ou OU).
+     */
+    private static boolean parse(final String query, final Set<String> terms) {
+        boolean any = false;
+        for (final String word : query.trim().split("\\s+")) {
+            if (word.equals("OR") || word.equals("OU")) {
+                any = true;
+            } else if (!word.equals("AND") && !word.equals("E")) {
+                terms.addAll(TextFolding.tokens(word));
+            }
+        }
+        return any;
+    }
+
+    /**
+     * Método responsável por retornar os menores números presentes em todas as listas. Como todos os resultados
+     * contêm as mesmas palavras, todos têm a mesma relevância.
+     * @param lists Refere-se as listas em ordem crescente.
+     * @param limit Refere-se a quantidade máxima de resultados.
+     * @return      Retorna números em ordem crescente.
+     */
+    private int[] intersection(final List<int[]> lists, final int limit) {
+        lists.sort(Comparator.comparingInt((int[] numbers) -> numbers.length));    //COMEÇA PELA LISTA MAIS CURTA
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            final int[] other = lists.get(i);
+            final int[] merged = new int[result.length];
+            int size = 0;
+            for (int a = 0, b = 0; a < result.length && b < other.length;) {
+                if (result[a] < other[b]) {
+                    a++;
+                } else if (result[a] > other[b]) {
+                    b++;
+                } else {
+                    merged[size++] = result[a];
+                    a++;
+                    b++;
+                }
+            }
+            result = Arrays.copyOf(merged, size);
+        }
+        return result.length > limit ? Arrays.copyOf(result, limit) : result;
+    }
+
+    /**
+     * Método responsável por retornar os números mais relevantes presentes em ao menos uma das listas.
+     * @param lists     Refere-se as listas em ordem crescente.
+     * @param weights   Refere-se a relevância das palavras de cada lista.
+     * @param limit     Refere-se a quantidade máxima de resultados.
+     * @return          Retorna números do mais relevante ao menos relevante.
+     */
+    private int[] union(final List<int[]> lists, final List<Double> weights, final int limit) {
+        final Map<Integer, Double> scores = new HashMap<>();
+        for (int i = 0; i < lists.size(); i++) {
+            final double weight = weights.get(i);
+            for (final int number : lists.get(i)) {
+                scores.merge(number, weight, Double::sum);
+            }
+        }
+        final Comparator<Map.Entry<Integer, Double>> relevance = Comparator
+                .comparingDouble((Map.Entry<Integer, Double> entry) -> entry.getValue())
+                .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+        final PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(relevance);   //MANTÉM OS K MAIS RELEVANTES
+        for (final Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (relevance.compare(entry, best.peek()) > 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+        final int[] result = new int[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll().getKey();
+        }
+        return result;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de palavras distintas indexadas.
+     * @return Retorna quantidade de palavras.
+     */
+    public int size() {
+        return this.postings.size();
+    }
+
+    /**
+     * Método responsável por incluir no índice as palavras do título de determinado ebook inserido no catálogo.
+     * @param ebook Refere-se ao ebook inserido.
+     */
+    @Override
+    public void inserted(final Ebook ebook) {
+        if (!this.enabled) {
+            return;
+        }
+        final int number = ebook.getNumber();
+        for (final String term : new LinkedHashSet<>(TextFolding.tokens(ebook.getTitle()))) {
+            this.postings.compute(term, (key, entry) -> entry == null ? Postings.of(new int[]{number}) : entry.with(number));
+        }
+        this.documents.incrementAndGet();
+    }
+
+    /**
+     * Método responsável por excluir do índice as palavras do título de determinado ebook removido do catálogo.
+     * @param ebook Refere-se ao ebook removido.
+     */
+    @Override
+    public void removed(final Ebook ebook) {
+        if (!this.enabled) {
+            return;
+        }
+        final int number = ebook.getNumber();
+        for (final String term : new LinkedHashSet<>(TextFolding.tokens(ebook.getTitle()))) {
+            this.postings.computeIfPresent(term, (key, entry) -> entry.without(number));
+        }
+        this.documents.decrementAndGet();
+    }
+
+    /**
+     * Método responsável por reconstruir o índice a partir de todo o conteúdo do catálogo. As palavras dos títulos
+     * são extraídas e agrupadas em paralelo, e cada lista é ordenada e comprimida em paralelo; o novo índice só
+     * substitui o anterior quando está completo.
+     * @param catalog Refere-se ao catálogo.
+     */
+    @Override
+    public void loaded(final KeyedTree<Ebook> catalog) {
+        if (!this.enabled) {
+            return;
+        }
+        final Map<String, List<Integer>> groups = catalog.parallelStream()
+                .flatMap((ebook) -> TextFolding.tokens(ebook.getTitle()).stream().distinct()
+                        .map((term) -> new AbstractMap.SimpleImmutableEntry<>(term, ebook.getNumber())))
+                .collect(Collectors.groupingByConcurrent(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+        final ConcurrentMap<String, Postings> result = new ConcurrentHashMap<>(groups.size() * 2);
+        groups.entrySet().parallelStream().forEach((entry) -> result.put(entry.getKey(),
+                Postings.of(entry.getValue().stream().mapToInt(Integer::intValue).sorted().toArray())));
+        this.postings = result;
+        this.documents.set(catalog.size());
+    }
+
+    /**
+     * Classe responsável por representar, de forma imutável, a lista de números de uma palavra: uma parte
+     * comprimida e dois pequenos vetores ordenados com os números inseridos e removidos desde a compressão.
+     */
+    private static final class Postings {
+        private static final int MAX_PENDING = 64;
+        private static final int[] EMPTY = new int[0];
+        private final byte[] data;
+        private final int size;
+        private final int[] added;
+        private final int[] removed;
+
+        /**
+         * Construtor responsável por inicializar a lista.
+         * @param data      Refere-se aos números comprimidos.
+         * @param size      Refere-se a quantidade de números comprimidos.
+         * @param added     Refere-se aos números inseridos desde a compressão, em ordem crescente.
+         * @param removed   Refere-se aos números comprimidos removidos desde a compressão, em ordem crescente.
+         */
+        private Postings(final byte[] data, final int size, final int[] added, final int[] removed) {
+            this.data = data;
+            this.size = size;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        /**
+         * Método responsável por criar a lista comprimida de determinados números. O primeiro número é gravado em
+         * zigue-zague e os demais como a diferença para o anterior, em grupos de 7 bits.
+         * @param numbers   Refere-se aos números em ordem crescente, sem repetições.
+         * @return          Retorna lista comprimida.
+         */
+        private static Postings of(final int[] numbers) {
+            final byte[] buffer = new byte[numbers.length * 5];
+            int position = 0;
+            int previous = 0;
+            for (int i = 0; i < numbers.length; i++) {
+                int value = i == 0 ? (numbers[0] << 1) ^ (numbers[0] >> 31) : numbers[i] - previous;
+                while ((value & ~0x7F) != 0) {
+                    buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                    value >>>= 7;
+                }
+                buffer[position++] = (byte) value;
+                previous = numbers[i];
+            }
+            return new Postings(Arrays.copyOf(buffer, position), numbers.length, EMPTY, EMPTY);
+        }
+
+        /**
+         * Método responsável por retornar todos os números da lista.
+         * @return Retorna números em ordem crescente.
+         */
+        private int[] toArray() {
+            final int[] base = new int[this.size];
+            int position = 0;
+            int previous = 0;
+            for (int i = 0; i < this.size; i++) {
+                int value = 0;
+                int shift = 0;
+                byte current;
+                do {
+                    current = this.data[position++];
+                    value |= (current & 0x7F) << shift;
+                    shift += 7;
+                } while (current < 0);
+                previous = i == 0 ? (value >>> 1) ^ -(value & 1) : previous + value;
+                base[i] = previous;
+            }
+            if (this.added.length == 0 && this.removed.length == 0) {
+                return base;
+            }
+            final int[] result = new int[this.size + this.added.length - this.removed.length];
+            int count = 0;
+            int a = 0;
+            int r = 0;
+            for (final int number : base) {
+                while (r < this.removed.length && this.removed[r] < number) {
+                    r++;
+                }
+                if (r < this.removed.length && this.removed[r] == number) {
+                    continue;
+                }
+                while (a < this.added.length && this.added[a] < number) {
+                    result[count++] = this.added[a++];
+                }
+                result[count++] = number;
+            }
+            while (a < this.added.length) {
+                result[count++] = this.added[a++];
+            }
+            return result;
+        }
+
+        /**
+         * Método responsável por retornar a lista acrescida de determinado número.
+         * @param number    Refere-se ao número, ainda ausente da lista.
+         * @return          Retorna nova lista.
+         */
+        private Postings with(final int number) {
+            final int index = Arrays.binarySearch(this.removed, number);
+            if (index >= 0) {                               //O NÚMERO VOLTA A LISTA COMPRIMIDA
+                return new Postings(this.data, this.size, this.added, delete(this.removed, index));
+            }
+            return new Postings(this.data, this.size, insert(this.added, number), this.removed).compact();
+        }
+
+        /**
+         * Método responsável por retornar a lista sem determinado número.
+         * @param number    Refere-se ao número.
+         * @return          Retorna nova lista ou nulo caso ela fique vazia.
+         */
+        private Postings without(final int number) {
+            final int index = Arrays.binarySearch(this.added, number);
+            final Postings result = index >= 0
+                    ? new Postings(this.data, this.size, delete(this.added, index), this.removed)
+                    : new Postings(this.data, this.size, this.added, insert(this.removed, number)).compact();
+            return result.size + result.added.length - result.removed.length == 0 ? null : result;
+        }
+
+        /**
+         * Método responsável por incorporar as alterações a parte comprimida, caso excedam MAX_PENDING.
+         * @return Retorna lista, comprimida novamente caso necessário.
+         */
+        private Postings compact() {
+            return this.added.length + this.removed.length > MAX_PENDING ? of(this.toArray()) : this;
+        }
+
+        /**
+         * Método responsável por inserir determinado número em um vetor ordenado.
+         * @param numbers   Refere-se ao vetor.
+         * @param number    Refere-se ao número.
+         * @return          Retorna novo vetor ou o próprio vetor caso já contenha o número.
+         */
+        private static int[] insert(final int[] numbers, final int number) {
+            final int index = Arrays.binarySearch(numbers, number);
+            if (index >= 0) {
+                return numbers;
+            }
+            final int position = -(index + 1);
+            final int[] result = new int[numbers.length + 1];
+            System.arraycopy(numbers, 0, result, 0, position);
+            result[position] = number;
+            System.arraycopy(numbers, position, result, position + 1, numbers.length - position);
+            return result;
+        }
+
+        /**
+         * Método responsável por remover determinada posição de um vetor.
+         * @param numbers   Refere-se ao vetor.
+         * @param index     Refere-se a posição.
+         * @return          Retorna novo vetor.
+         */
+        private static int[] delete(final int[] numbers, final int index) {
+            final int[] result = new int[numbers.length - 1];
+            System.arraycopy(numbers, 0, result, 0, index);
+            System.arraycopy(numbers, index + 1, result, index, result.length - index);
+            return result;
+        }
+
+    }
+
+}
@@ -1,11 +1,16 @@
 package util;
 
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
 /**
  * Classe responsável por comportar-se como uma árvore AVL.
  * @author Everton Bruno Silva dos Santos
  * @param <E> Refere-se ao tipo de elemento que a árvore irá armazenar.
  */
-public class Tree<E> {
+public class Tree<E> implements KeyedTree<E> {
     private Node<E> root;
 
     /**
@@ -14,6 +19,15 @@ public class Tree<E> {
     public Tree() {
         this.root = null;
     }
+
+    /**
+     * Construtor responsável por inicializar a árvore a partir de uma raiz já existente. Destina-se a
+     * consultas sobre estruturas imutáveis, cujos nós não podem ser alterados por meio desta árvore.
+     * @param root Refere-se a raiz da árvore.
+     */
+    Tree(final Node<E> root) {
+        this.root = root;
+    }
     
     /**
      * Método responsável por retornar a raiz da árvore.
@@ -27,6 +41,7 @@ public class Tree<E> {
      * Método responsável por retornar dado boleano que indica se a árvore está vazia.
      * @return Retorna dado boleano.
      */
+    @Override
     public boolean isEmpty() {
         return this.root == null;
     }
@@ -34,37 +49,168 @@ public class Tree<E> {
     /**
      * Método responsável por esvaziar a árvore.
      */
+    @Override
     public void clear() {
         this.root = null;
     }
 
     /**
-     * Método responsável por inserir novos elementos na árvore.
+     * Método responsável por inserir novos elementos na árvore, desde que a chave ainda não exista.
      * @param key       Refere-se a chave do elemento.
      * @param element   Refere-se ao elemento.
+     * @return          Retorna dado boleano que indica se o elemento foi inserido.
      */
-    public void insert(final int key, final E element) {
-        if (!this.isContains(key)) {
-            this.root = this.insert(key, element, root);
-        }
+    @Override
+    public boolean insert(final int key, final E element) {
+        final Container container = this.update(key, (currentKey, oldElement) -> oldElement == null ? element : oldElement);
+        return container.isChanged();
     }
 
     /**
-     * Método auxiliar recursivo responsável por inserir novos elementos na árvore.
-     * @param key           Refere-se a chave do elemento.
-     * @param element       Refere-se ao elemento.
-     * @param currentNode   Refere-se ao nó raiz que irá deter o novo nó com o elemento.
-     * @return              Retorna árvore reconstruída com novo elemento.
+     * Método responsável por inserir um elemento caso a chave ainda não exista, percorrendo a árvore uma única vez.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @return          Retorna elemento já associado a chave ou nulo caso o novo elemento tenha sido inserido.
      */
-    private Node<E> insert(final int key, final E element, final Node<E> currentNode) {
+    @Override
+    public E putIfAbsent(final int key, final E element) {
+        return this.update(key, (currentKey, oldElement) -> oldElement == null ? element : oldElement).getElement();
+    }
+
+    /**
+     * Método responsável por inserir ou substituir um elemento, percorrendo a árvore uma única vez.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao novo elemento.
+     * @return          Retorna elemento substituído ou nulo caso a chave não existisse.
+     */
+    @Override
+    public E put(final int key, final E element) {
+        return this.update(key, (currentKey, oldElement) -> element).getElement();
+    }
+
+    /**
+     * Método responsável por recalcular o elemento de determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que recebe a chave e o elemento atual (ou nulo) e retorna o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public E compute(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        return this.update(key, remappingFunction).getNewElement();
+    }
+
+    /**
+     * Método responsável por combinar um elemento ao já existente em determinada chave, percorrendo a árvore uma única vez.
+     * Caso a função retorne nulo, o elemento é removido da árvore.
+     * @param key                   Refere-se a chave do elemento.
+     * @param element               Refere-se ao elemento que será inserido caso a chave não exista.
+     * @param remappingFunction     Refere-se a função que combina o elemento atual com o novo elemento.
+     * @return                      Retorna novo elemento associado a chave ou nulo caso não haja.
+     */
+    @Override
+    public E merge(final int key, final E element, final BiFunction<? super E, ? super E, ? extends E> remappingFunction) {
+        return this.update(key, (currentKey, oldElement) -> oldElement == null ? element
+                : remappingFunction.apply(oldElement, element)).getNewElement();
+    }
+
+    /**
+     * Método responsável por aplicar determinada alteração na árvore em uma única descida.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     * @return                      Retorna recipiente com o elemento anterior, o novo elemento e a indicação de mudança estrutural.
+     */
+    private Container update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction) {
+        final Container container = new Container();
+        this.root = this.update(key, remappingFunction, container, root);
+        return container;
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por aplicar determinada alteração na árvore. O rebalanceamento
+     * só é efetuado no caminho de volta quando houver inserção ou remoção de nós.
+     * @param key                   Refere-se a chave do elemento.
+     * @param remappingFunction     Refere-se a função que determina o novo elemento da chave.
+     * @param container             Refere-se a estrutura que irá armazenar o resultado da alteração.
+     * @param currentNode           Refere-se ao nó que possívelmente contém a chave.
+     * @return                      Retorna árvore reconstruída com a alteração.
+     */
+    private Node<E> update(final int key, final BiFunction<Integer, ? super E, ? extends E> remappingFunction,
+            final Container container, final Node<E> currentNode) {
         if (currentNode == null) {
-            return new Node<E>(key, element);
+            final E newElement = remappingFunction.apply(key, null);
+            container.setNewElement(newElement);
+            if (newElement == null) {
+                return null;
+            }
+            container.setChanged(true);
+            return new Node<E>(key, newElement);
+        } else if (currentNode.getKey() == key) {
+            final E newElement = remappingFunction.apply(key, currentNode.getElement());
+            container.setElement(currentNode.getElement());
+            container.setNewElement(newElement);
+            if (newElement != null) {
+                currentNode.setElement(newElement);
+                return currentNode;
+            }
+            container.setChanged(true);
+            return this.removeNode(currentNode);
         } else if (currentNode.getKey() > key) {
-            currentNode.setSonOnTheLeft(this.insert(key, element, currentNode.getSonOnTheLeft()));
+            currentNode.setSonOnTheLeft(this.update(key, remappingFunction, container, currentNode.getSonOnTheLeft()));
         } else {
-            currentNode.setSonOnTheRight(this.insert(key, element, currentNode.getSonOnTheRight()));
+            currentNode.setSonOnTheRight(this.update(key, remappingFunction, container, currentNode.getSonOnTheRight()));
         }
-        return this.adjustHeigth(currentNode);
+        return container.isChanged() ? this.adjustHeigth(currentNode) : currentNode;
+    }
+
+    /**
+     * Método responsável por substituir todo o conteúdo da árvore pelos elementos informados. Caso as chaves
+     * estejam em ordem estritamente crescente ou decrescente, a árvore é construída perfeitamente balanceada
+     * em tempo linear, sem rotações; caso contrário, os elementos são inseridos um a um.
+     * @param elements      Refere-se aos elementos, na ordem em que foram lidos.
+     * @param keyFunction   Refere-se a função que extrai a chave de cada elemento.
+     */
+    @Override
+    public void bulkLoad(final List<? extends E> elements, final ToIntFunction<? super E> keyFunction) {
+        final int[] keys = new int[elements.size()];
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyFunction.applyAsInt(elements.get(i));
+            if (i > 0) {
+                ascending &= keys[i - 1] < keys[i];
+                descending &= keys[i - 1] > keys[i];
+            }
+        }
+        if (ascending || descending) {
+            this.root = this.build(keys, elements, 0, keys.length - 1, descending);
+        } else {
+            KeyedTree.super.bulkLoad(elements, keyFunction);
+        }
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por construir uma subárvore perfeitamente balanceada a partir
+     * de um intervalo de elementos ordenados, tomando o elemento central como raiz.
+     * @param keys          Refere-se as chaves dos elementos.
+     * @param elements      Refere-se aos elementos.
+     * @param first         Refere-se a primeira posição do intervalo (em ordem crescente de chave).
+     * @param last          Refere-se a última posição do intervalo (em ordem crescente de chave).
+     * @param descending    Refere-se ao indicador de que os elementos estão em ordem decrescente.
+     * @return              Retorna raiz da subárvore construída.
+     */
+    private Node<E> build(final int[] keys, final List<? extends E> elements, final int first, final int last,
+            final boolean descending) {
+        if (first > last) {
+            return null;
+        }
+        final int middle = (first + last) >>> 1;
+        final int index = descending ? keys.length - 1 - middle : middle;
+        final Node<E> node = new Node<>(keys[index], elements.get(index));
+        node.setSonOnTheLeft(this.build(keys, elements, first, middle - 1, descending));
+        node.setSonOnTheRight(this.build(keys, elements, middle + 1, last, descending));
+        this.updateBalancing(node);
+        return node;
     }
 
     /**
@@ -72,6 +218,7 @@ public class Tree<E> {
      * @param key   Refere-se a chave do elemento.
      * @return      Retorna elemento.
      */
+    @Override
     public E search(final int key) {
         return this.search(key, root);
     }
@@ -99,55 +246,51 @@ public class Tree<E> {
      * @param key   Refere-se a chave do elemento.
      * @return      Retorna dado boleano.
      */
+    @Override
     public boolean isContains(final int key) {
         return this.search(key, root) != null;
     }
 
     /**
-     * Método responsável por remover elementos da árvore.
+     * Método responsável por remover elementos da árvore, percorrendo-a uma única vez.
      * @param key   Refere-se a achave do elemento.
-     * @return      Retorna elemento removido.
+     * @return      Retorna elemento removido ou nulo caso a chave não exista.
      */
+    @Override
     public E remove(final int key) {
-        final Container container = new Container();
-        this.remove(key, container, root);
-        return container.getElement();
+        return this.update(key, (currentKey, oldElement) -> null).getElement();
     }
 
     /**
-     * Método auxiliar recursivo responsável por remover elementos da árvore.
-     * @param key           Refere-se a chave do elemento.
-     * @param container     Refere-se a estrutura que irá armazenar o elemento removido.
-     * @param currentNode   Refere-se ao nó que possívelmente contém o elemento que será removido.
-     * @return              Retorna árvore reconstruída sem o elemento.
+     * Método auxiliar responsável por desligar determinado nó da árvore.
+     * @param currentNode   Refere-se ao nó que será removido.
+     * @return              Retorna árvore reconstruída sem o nó.
      */
-    private Node<E> remove(final int key, final Container container, final Node<E> currentNode) {
-        if (currentNode == null) {
-            return null;
-        } else if (currentNode.getKey() == key) {
-            if (currentNode.isLeaf()) {
-                container.setElement(currentNode.getElement());
-                return null;
-            } else if (currentNode.hasSonJustLeft()) {
-                return currentNode.getSonOnTheLeft();
-            } else if (currentNode.hasSonJustRight()) {
-                return currentNode.getSonOnTheRight();
-            } else {
-                Node<E> tmpNode;
-                for (tmpNode = currentNode.getSonOnTheLeft(); tmpNode.getSonOnTheRight() != null; tmpNode = tmpNode.getSonOnTheRight());
-                final int tmpKey = tmpNode.getKey();
-                final E tmpElement = tmpNode.getElement();
-                tmpNode.setKey(currentNode.getKey());
-                tmpNode.setElement(currentNode.getElement());
-                currentNode.setKey(tmpKey);
-                currentNode.setElement(tmpElement);
-                currentNode.setSonOnTheLeft(this.remove(key, container, currentNode.getSonOnTheLeft()));
-            }
-        } else if (currentNode.getKey() > key) {
-            currentNode.setSonOnTheLeft(this.remove(key, container, currentNode.getSonOnTheLeft()));
+    private Node<E> removeNode(final Node<E> currentNode) {
+        if (currentNode.getSonOnTheLeft() == null) {
+            return currentNode.getSonOnTheRight();
+        } else if (currentNode.getSonOnTheRight() == null) {
+            return currentNode.getSonOnTheLeft();
         } else {
-            currentNode.setSonOnTheRight(this.remove(key, container, currentNode.getSonOnTheRight()));
+            Node<E> tmpNode;
+            for (tmpNode = currentNode.getSonOnTheLeft(); tmpNode.getSonOnTheRight() != null; tmpNode = tmpNode.getSonOnTheRight());
+            currentNode.setKey(tmpNode.getKey());
+            currentNode.setElement(tmpNode.getElement());
+            currentNode.setSonOnTheLeft(this.removeHighest(currentNode.getSonOnTheLeft()));
+            return this.adjustHeigth(currentNode);
+        }
+    }
+
+    /**
+     * Método auxiliar recursivo responsável por desligar o nó de maior chave de determinada subárvore.
+     * @param currentNode   Refere-se a raiz da subárvore.
+     * @return              Retorna subárvore reconstruída sem o nó de maior chave.
+     */
+    private Node<E> removeHighest(final Node<E> currentNode) {
+        if (currentNode.getSonOnTheRight() == null) {
+            return currentNode.getSonOnTheLeft();
         }
+        currentNode.setSonOnTheRight(this.removeHighest(currentNode.getSonOnTheRight()));
         return this.adjustHeigth(currentNode);
     }
 
@@ -157,19 +300,29 @@ public class Tree<E> {
      * @return              Retorna altura de determinado nó de árvore.
      */
     private int getHeight(final Node<E> currentNode) {
-        if (currentNode == null) {
-            return 0;
-        } else {
-            return Math.max(1 + this.getHeight(currentNode.getSonOnTheLeft()), 1 + this.getHeight(currentNode.getSonOnTheRight()));
-        }
+        return currentNode == null ? 0 : currentNode.getHeight();
     }
 
     /**
-     * Método responsável por atualizar o valor de balanceamento de determinado nó da árvore.
+     * Método responsável por retornar a quantidade de nós da subárvore cuja raiz é determinado nó.
+     * @param currentNode   Refere-se a raiz da subárvore.
+     * @return              Retorna quantidade de nós da subárvore.
+     */
+    private int getSize(final Node<E> currentNode) {
+        return currentNode == null ? 0 : currentNode.getSize();
+    }
+
+    /**
+     * Método responsável por atualizar a altura, a quantidade de nós e o valor de balanceamento de determinado
+     * nó da árvore a partir dos valores já armazenados em seus filhos, sem percorrer as subárvores.
      * @param currentNode   Refere-se a determinado nó da árvore.
      */
     private void updateBalancing(final Node<E> currentNode) {
-        currentNode.setBalancing(-this.getHeight(currentNode.getSonOnTheLeft()) + this.getHeight(currentNode.getSonOnTheRight()));
+        final int heightOnTheLeft = this.getHeight(currentNode.getSonOnTheLeft());
+        final int heightOnTheRight = this.getHeight(currentNode.getSonOnTheRight());
+        currentNode.setHeight(1 + Math.max(heightOnTheLeft, heightOnTheRight));
+        currentNode.setSize(1 + this.getSize(currentNode.getSonOnTheLeft()) + this.getSize(currentNode.getSonOnTheRight()));
+        currentNode.setBalancing(heightOnTheRight - heightOnTheLeft);
     }
 
     /**
@@ -180,13 +333,13 @@ public class Tree<E> {
     private Node<E> adjustHeigth(final Node<E> currentNode) {
         this.updateBalancing(currentNode);
         if (currentNode.getBalancing() <= -2) {
-            if (currentNode.getBalancing() * currentNode.getSonOnTheLeft().getBalancing() > 0) {
+            if (currentNode.getSonOnTheLeft().getBalancing() <= 0) {
                 return this.simpleRotationLeft(currentNode.getSonOnTheLeft(), currentNode);
             } else {
                 return this.doubleRotationLeft(currentNode.getSonOnTheLeft(), currentNode);
             }
         } else if (currentNode.getBalancing() >= 2) {
-            if (currentNode.getBalancing() * currentNode.getSonOnTheRight().getBalancing() > 0) {
+            if (currentNode.getSonOnTheRight().getBalancing() >= 0) {
                 return this.simpleRotationRigth(currentNode.getSonOnTheRight(), currentNode);
             } else {
                 return this.doubleRotationRight(currentNode.getSonOnTheRight(), currentNode);
@@ -204,6 +357,8 @@ public class Tree<E> {
     private Node<E> simpleRotationLeft(final Node<E> newRoot, final Node<E> oldRoot) {
         oldRoot.setSonOnTheLeft(newRoot.getSonOnTheRight());
         newRoot.setSonOnTheRight(oldRoot);
+        this.updateBalancing(oldRoot);
+        this.updateBalancing(newRoot);
         return newRoot;
     }
 
@@ -216,6 +371,8 @@ public class Tree<E> {
     private Node<E> simpleRotationRigth(final Node<E> newRoot, final Node<E> oldRoot) {
         oldRoot.setSonOnTheRight(newRoot.getSonOnTheLeft());
         newRoot.setSonOnTheLeft(oldRoot);
+        this.updateBalancing(oldRoot);
+        this.updateBalancing(newRoot);
         return newRoot;
     }
 
@@ -229,6 +386,7 @@ public class Tree<E> {
         oldRoot.setSonOnTheLeft(sonOnTheLeft.getSonOnTheRight());
         sonOnTheLeft.setSonOnTheRight(oldRoot.getSonOnTheLeft().getSonOnTheLeft());
         oldRoot.getSonOnTheLeft().setSonOnTheLeft(sonOnTheLeft);
+        this.updateBalancing(sonOnTheLeft);
         return simpleRotationLeft(oldRoot.getSonOnTheLeft(), oldRoot);
     }
 
@@ -242,6 +400,7 @@ public class Tree<E> {
         oldRoot.setSonOnTheRight(sonOnTheRight.getSonOnTheLeft());
         sonOnTheRight.setSonOnTheLeft(oldRoot.getSonOnTheRight().getSonOnTheRight());
         oldRoot.getSonOnTheRight().setSonOnTheRight(sonOnTheRight);
+        this.updateBalancing(sonOnTheRight);
         return simpleRotationRigth(oldRoot.getSonOnTheRight(), oldRoot);
     }
     
@@ -249,20 +408,53 @@ public class Tree<E> {
      * Método responsável por retornar a quantidade de nós contidos na árvore.
      * @return Retorna quantidade de nós.
      */
+    @Override
     public int size() {
-        return size(root);
+        return this.getSize(root);
     }
 
     /**
-     * Método auxiliar recursivo responsável por auxiliar o processo
-     * @param node Refere-se a raiz da árvore.
-     * @return Retorna quantidade de nós.
+     * Método responsável por retornar a posição que determinada chave ocupa (ou ocuparia) na ordem crescente
+     * de chaves, isto é, a quantidade de chaves menores que ela.
+     * @param key   Refere-se a chave.
+     * @return      Retorna posição da chave, iniciando em zero.
      */
-    private int size(final Node node) {
-        if(node == null){
-            return 0;
-        } else {
-            return 1+size(node.getSonOnTheLeft())+size(node.getSonOnTheRight());
+    @Override
+    public int rank(final int key) {
+        int rank = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (node.getKey() < key) {
+                rank += 1 + this.getSize(node.getSonOnTheLeft());
+                node = node.getSonOnTheRight();
+            } else {
+                node = node.getSonOnTheLeft();
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa determinada posição na ordem crescente de chaves.
+     * @param index Refere-se a posição do elemento, iniciando em zero.
+     * @return      Retorna elemento ou nulo caso a posição seja inválida.
+     */
+    @Override
+    public E select(int index) {
+        if (index < 0 || index >= this.size()) {
+            return null;
+        }
+        Node<E> node = root;
+        while (true) {
+            final int sizeOnTheLeft = this.getSize(node.getSonOnTheLeft());
+            if (index < sizeOnTheLeft) {
+                node = node.getSonOnTheLeft();
+            } else if (index > sizeOnTheLeft) {
+                index -= sizeOnTheLeft + 1;
+                node = node.getSonOnTheRight();
+            } else {
+                return node.getElement();
+            }
         }
     }
     
@@ -270,26 +462,139 @@ public class Tree<E> {
      * Método responsável por retornar a maior chave da árvore.
      * @return Retorna o maior valor de chave.
      */
+    @Override
     public int highestKey() {
         if (isEmpty()) {
             return -1;
-        } else {
-            return highestKey(root);
         }
+        Node<E> node;
+        for (node = root; node.getSonOnTheRight() != null; node = node.getSonOnTheRight());
+        return node.getKey();
     }
 
     /**
-     * Método auxiliar recursivo responsável por auxiliar o processo de retornar a maior chave da
-     * árvore recursivamente.
-     * @param node Refere-se a raiz da árvore.
-     * @return Retorna maior chave.
+     * Método responsável por retornar a menor chave da árvore.
+     * @return Retorna o menor valor de chave.
      */
-    private int highestKey(final Node node) {
-        if (node.getSonOnTheRight() == null) {
-            return node.getKey();
-        } else {
-            return highestKey(node.getSonOnTheRight());
+    @Override
+    public int firstKey() {
+        if (isEmpty()) {
+            return -1;
+        }
+        Node<E> node;
+        for (node = root; node.getSonOnTheLeft() != null; node = node.getSonOnTheLeft());
+        return node.getKey();
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public E floor(final int key) {
+        Node<E> found = null;
+        for (Node<E> node = root; node != null;) {
+            if (node.getKey() == key) {
+                return node.getElement();
+            } else if (node.getKey() < key) {
+                found = node;
+                node = node.getSonOnTheRight();
+            } else {
+                node = node.getSonOnTheLeft();
+            }
+        }
+        return found == null ? null : found.getElement();
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public E ceiling(final int key) {
+        Node<E> found = null;
+        for (Node<E> node = root; node != null;) {
+            if (node.getKey() == key) {
+                return node.getElement();
+            } else if (node.getKey() > key) {
+                found = node;
+                node = node.getSonOnTheLeft();
+            } else {
+                node = node.getSonOnTheRight();
+            }
+        }
+        return found == null ? null : found.getElement();
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave estritamente maior que determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public E higher(final int key) {
+        Node<E> found = null;
+        for (Node<E> node = root; node != null;) {
+            if (node.getKey() > key) {
+                found = node;
+                node = node.getSonOnTheLeft();
+            } else {
+                node = node.getSonOnTheRight();
+            }
         }
+        return found == null ? null : found.getElement();
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave estritamente menor que determinada chave.
+     * @param key   Refere-se a chave de referência.
+     * @return      Retorna elemento ou nulo caso não haja.
+     */
+    @Override
+    public E lower(final int key) {
+        Node<E> found = null;
+        for (Node<E> node = root; node != null;) {
+            if (node.getKey() < key) {
+                found = node;
+                node = node.getSonOnTheRight();
+            } else {
+                node = node.getSonOnTheLeft();
+            }
+        }
+        return found == null ? null : found.getElement();
+    }
+
+    /**
+     * Método responsável por retornar os elementos cujas chaves estão em determinado intervalo, em ordem
+     * crescente de chave. As subárvores fora do intervalo não são visitadas.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     * @return          Retorna elementos do intervalo.
+     */
+    @Override
+    public Iterable<E> subRange(final int fromKey, final int toKey) {
+        return () -> new TreeIterator<>(root, fromKey, toKey);
+    }
+
+    /**
+     * Método responsável por retornar iterador que percorre os elementos da árvore em ordem crescente de chave
+     * sem recursão, podendo ser interrompido a qualquer momento.
+     * @return Retorna iterador da árvore.
+     */
+    @Override
+    public TreeIterator<E> iterator() {
+        return new TreeIterator<>(root);
+    }
+
+    /**
+     * Método responsável por retornar divisor que reparte a árvore em subárvores, permitindo o processamento paralelo.
+     * @return Retorna divisor da árvore.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new TreeSpliterator<>(root);
     }
 
     /**
@@ -298,12 +603,16 @@ public class Tree<E> {
      */
     private class Container {
         private E element;
+        private E newElement;
+        private boolean changed;
 
         /**
          * Construtor responsável por inicializar o recipiente.
          */
         public Container() {
             this.element = null;
+            this.newElement = null;
+            this.changed = false;
         }
 
         /**
@@ -322,6 +631,38 @@ public class Tree<E> {
             this.element = element;
         }
 
+        /**
+         * Método responsável por retornar o elemento que passou a ocupar a chave.
+         * @return  Retorna elemento.
+         */
+        public E getNewElement() {
+            return this.newElement;
+        }
+
+        /**
+         * Método responsável por alterar o elemento que passou a ocupar a chave.
+         * @param newElement    Refere-se ao novo elemento.
+         */
+        public void setNewElement(final E newElement) {
+            this.newElement = newElement;
+        }
+
+        /**
+         * Método responsável por retornar dado boleano que indica se a estrutura da árvore foi alterada.
+         * @return  Retorna dado boleano.
+         */
+        public boolean isChanged() {
+            return this.changed;
+        }
+
+        /**
+         * Método responsável por alterar o indicador de mudança estrutural da árvore.
+         * @param changed   Refere-se ao novo valor do indicador.
+         */
+        public void setChanged(final boolean changed) {
+            this.changed = changed;
+        }
+
     }
 
     
@@ -0,0 +1,108 @@
+package util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Classe responsável por percorrer uma árvore AVL em ordem crescente de chaves sem recursão.
+ * Para tal, mantém uma pilha explícita cujo tamanho é limitado pela altura da árvore. Além de
+ * comportar-se como iterador, atua como cursor, expondo a chave e o elemento da posição atual. Pode ainda
+ * ser limitado a um intervalo de chaves, caso em que as subárvores fora do intervalo não são visitadas.
+ * A árvore não deve ser alterada enquanto estiver sendo percorrida.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore armazena.
+ */
+public class TreeIterator<E> implements Iterator<E> {
+    private final Node<E>[] stack;
+    private final int toKey;
+    private int top;
+    private Node<E> currentNode;
+
+    /**
+     * Construtor responsável por inicializar o iterador a partir da raiz da árvore.
+     * @param root Refere-se a raiz da árvore que será percorrida.
+     */
+    public TreeIterator(final Node<E> root) {
+        this(root, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construtor responsável por inicializar o iterador limitado a determinado intervalo de chaves.
+     * @param root      Refere-se a raiz da árvore que será percorrida.
+     * @param fromKey   Refere-se a menor chave do intervalo (inclusiva).
+     * @param toKey     Refere-se a maior chave do intervalo (inclusiva).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TreeIterator(final Node<E> root, final int fromKey, final int toKey) {
+        this.stack = new Node[root == null ? 0 : root.getHeight()];
+        this.toKey = toKey;
+        this.top = 0;
+        this.currentNode = null;
+        for (Node<E> node = root; node != null;) {
+            if (node.getKey() >= fromKey) {
+                this.stack[this.top++] = node;
+                node = node.getSonOnTheLeft();
+            } else {
+                node = node.getSonOnTheRight();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por empilhar determinado nó e todos os seus descendentes à esquerda.
+     * @param node Refere-se ao nó inicial.
+     */
+    private void pushLeft(Node<E> node) {
+        while (node != null) {
+            this.stack[this.top++] = node;
+            node = node.getSonOnTheLeft();
+        }
+    }
+
+    /**
+     * Método responsável por retornar dado boleano que indica se ainda há elementos a percorrer.
+     * @return Retorna dado boleano.
+     */
+    @Override
+    public boolean hasNext() {
+        return this.top > 0 && this.stack[this.top - 1].getKey() <= this.toKey;
+    }
+
+    /**
+     * Método responsável por avançar o cursor e retornar o próximo elemento em ordem de chave.
+     * @return Retorna próximo elemento.
+     */
+    @Override
+    public E next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.currentNode = this.stack[--this.top];
+        this.stack[this.top] = null;
+        this.pushLeft(this.currentNode.getSonOnTheRight());
+        return this.currentNode.getElement();
+    }
+
+    /**
+     * Método responsável por retornar a chave da posição atual do cursor.
+     * @return Retorna chave do último elemento retornado por next.
+     */
+    public int getKey() {
+        if (this.currentNode == null) {
+            throw new IllegalStateException();
+        }
+        return this.currentNode.getKey();
+    }
+
+    /**
+     * Método responsável por retornar o elemento da posição atual do cursor.
+     * @return Retorna último elemento retornado por next.
+     */
+    public E getElement() {
+        if (this.currentNode == null) {
+            throw new IllegalStateException();
+        }
+        return this.currentNode.getElement();
+    }
+
+}
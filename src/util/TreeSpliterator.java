@@ -0,0 +1,131 @@
+package util;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Classe responsável por dividir e percorrer uma árvore AVL de forma que seus elementos possam ser
+ * processados em paralelo. Cada divisão entrega a subárvore à esquerda de determinado nó (juntamente
+ * com o próprio nó) e mantém a subárvore à direita, preservando a ordem crescente de chaves. Como cada
+ * nó armazena a quantidade de nós de sua subárvore, o tamanho de cada divisão é exato.
+ * @author Everton Bruno Silva dos Santos
+ * @param <E> Refere-se ao tipo de elemento que a árvore armazena.
+ */
+public class TreeSpliterator<E> implements Spliterator<E> {
+    private final ArrayDeque<Node<E>> subtrees;
+    private TreeIterator<E> iterator;
+    private long size;
+
+    /**
+     * Construtor responsável por inicializar o divisor a partir da raiz da árvore.
+     * @param root Refere-se a raiz da árvore que será percorrida.
+     */
+    public TreeSpliterator(final Node<E> root) {
+        this.subtrees = new ArrayDeque<>();
+        this.iterator = null;
+        this.size = 0;
+        if (root != null) {
+            this.subtrees.add(root);
+            this.size = root.getSize();
+        }
+    }
+
+    /**
+     * Método responsável por dividir os elementos restantes em dois grupos consecutivos.
+     * @return Retorna divisor com os primeiros elementos ou nulo caso não seja possível dividir.
+     */
+    @Override
+    public Spliterator<E> trySplit() {
+        if (this.iterator != null || this.subtrees.isEmpty()) {
+            return null;
+        }
+        final TreeSpliterator<E> prefix = new TreeSpliterator<>(null);
+        if (this.subtrees.size() > 1) {
+            for (int i = this.subtrees.size() / 2; i > 0; i--) {
+                prefix.add(this.subtrees.poll());
+            }
+            this.size -= prefix.size;
+            return prefix;
+        }
+        final Node<E> node = this.subtrees.peek();
+        if (node.isLeaf()) {
+            return null;
+        }
+        this.subtrees.poll();
+        if (node.getSonOnTheLeft() != null) {
+            prefix.add(node.getSonOnTheLeft());
+        }
+        if (node.getSonOnTheRight() == null) {
+            this.subtrees.add(new Node<>(node.getKey(), node.getElement()));
+        } else {
+            prefix.add(new Node<>(node.getKey(), node.getElement()));
+            this.subtrees.add(node.getSonOnTheRight());
+        }
+        this.size -= prefix.size;
+        return prefix;
+    }
+
+    /**
+     * Método responsável por acrescentar determinada subárvore ao final dos elementos restantes.
+     * @param node Refere-se a raiz da subárvore.
+     */
+    private void add(final Node<E> node) {
+        this.subtrees.add(node);
+        this.size += node.getSize();
+    }
+
+    /**
+     * Método responsável por processar o próximo elemento, caso exista.
+     * @param action Refere-se a ação que será aplicada ao elemento.
+     * @return Retorna dado boleano que indica se havia elemento a processar.
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super E> action) {
+        while (this.iterator == null || !this.iterator.hasNext()) {
+            if (this.subtrees.isEmpty()) {
+                return false;
+            }
+            this.iterator = new TreeIterator<>(this.subtrees.poll());
+        }
+        this.size--;
+        action.accept(this.iterator.next());
+        return true;
+    }
+
+    /**
+     * Método responsável por processar todos os elementos restantes em ordem crescente de chave.
+     * @param action Refere-se a ação que será aplicada a cada elemento.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        do {
+            if (this.iterator != null) {
+                while (this.iterator.hasNext()) {
+                    this.size--;
+                    action.accept(this.iterator.next());
+                }
+            }
+            this.iterator = this.subtrees.isEmpty() ? null : new TreeIterator<>(this.subtrees.poll());
+        } while (this.iterator != null);
+    }
+
+    /**
+     * Método responsável por retornar a quantidade exata de elementos restantes.
+     * @return Retorna quantidade de elementos.
+     */
+    @Override
+    public long estimateSize() {
+        return this.size;
+    }
+
+    /**
+     * Método responsável por retornar as características do divisor.
+     * @return Retorna características do divisor.
+     */
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+}
@@ -40,6 +40,8 @@ public class Screen {
         System.out.println("|   8)  Buscar livros dado determinado ano            |");
         System.out.println("|   9)  Excluir livro dado determinado número de ebook|");
         System.out.println("|   10) Sair                                          |");
+        System.out.println("|   11) Buscar livros dado intervalo de anos          |");
+        System.out.println("|   12) Buscar livros dadas palavras do título        |");
         System.out.println("|-----------------------------------------------------|");
         System.out.println("");        
     }
@@ -0,0 +1,106 @@
+package control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import model.Ebook;
+
+/**
+ * Classe responsável por comparar a latência das buscas com a gravação assíncrona dos resultados (a busca
+ * retorna assim que a gravação é agendada) e com a gravação síncrona (a busca só retorna após a gravação,
+ * como antes da introdução de ResultWriter, o que é reproduzido aguardando o resultado futuro). As buscas são
+ * feitas por número e por autor sobre o catálogo informado, em duas cargas: em sequência, sem intervalo
+ * entre as buscas (saturando a fila de gravação, caso em que prevalece a contenção), e em ritmo constante de
+ * uma busca a cada INTERVAL microssegundos. Os resultados são gravados no diretório SearchResults do diretório
+ * atual.
+ * Uso: java control.SearchLatencyBenchmark [buscas] [base.csv] (padrão: 5000 buscas).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class SearchLatencyBenchmark {
+    private static final long INTERVAL = 1000;
+
+    /**
+     * Método principal responsável por executar a comparação.
+     * @param args Refere-se a quantidade de buscas e ao caminho do catálogo.
+     */
+    public static void main(final String[] args) {
+        final int queries = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        final String fileName = args.length > 1 ? args[1] : "base.csv";
+        final Application application = new Application();
+        if (!application.loadFromFile(fileName)) {
+            throw new IllegalStateException("falha ao carregar " + fileName);
+        }
+        final List<Ebook> ebooks = new ArrayList<>();
+        application.getEbookTreeStream().forEach(ebooks::add);
+        run(application, ebooks, 1000, false, 0);              //AQUECIMENTO DO COMPILADOR
+        run(application, ebooks, 1000, true, 0);
+        System.out.println(String.format(Locale.ROOT, "%-30s %10s %10s %10s %10s %12s", "carga / gravacao",
+                "p50 us", "p90 us", "p99 us", "max us", "buscas/s"));
+        for (final long interval : new long[] {0, INTERVAL}) {
+            final String load = interval == 0 ? "sequencia" : "1 a cada " + interval + " us";
+            print(load + " / sincrona", run(application, ebooks, queries, true, interval));
+            print(load + " / assincrona", run(application, ebooks, queries, false, interval));
+        }
+        application.close();
+    }
+
+    /**
+     * Método responsável por imprimir os percentis de latência de determinado modo de gravação.
+     * @param name      Refere-se ao nome do modo.
+     * @param latencies Refere-se as latências medidas, em nanossegundos, e ao tempo total ao final.
+     */
+    private static void print(final String name, final long[] latencies) {
+        final int count = latencies.length - 1;
+        final long total = latencies[count];
+        Arrays.sort(latencies, 0, count);
+        System.out.println(String.format(Locale.ROOT, "%-30s %10.1f %10.1f %10.1f %10.1f %12.0f", name,
+                latencies[count / 2] / 1e3, latencies[count * 9 / 10] / 1e3, latencies[count * 99 / 100] / 1e3,
+                latencies[count - 1] / 1e3, count / (total / 1e9)));
+    }
+
+    /**
+     * Método responsável por executar determinada quantidade de buscas, alternando buscas por número e por autor.
+     * @param application   Refere-se a aplicação.
+     * @param ebooks        Refere-se aos ebooks do catálogo, de onde são sorteados os termos de busca.
+     * @param queries       Refere-se a quantidade de buscas.
+     * @param synchronous   Refere-se ao indicador de que cada busca deve aguardar a gravação de seu resultado.
+     * @param interval      Refere-se ao intervalo entre o início das buscas, em microssegundos, ou zero para
+     *                      iniciar cada busca logo após a anterior.
+     * @return              Retorna latência de cada busca, em nanossegundos, seguida do tempo total.
+     */
+    private static long[] run(final Application application, final List<Ebook> ebooks, final int queries,
+            final boolean synchronous, final long interval) {
+        final Random random = new Random(1);
+        final long[] latencies = new long[queries + 1];
+        final List<CompletableFuture<?>> results = new ArrayList<>();
+        final long begin = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            final Ebook ebook = ebooks.get(random.nextInt(ebooks.size()));
+            final long scheduled = begin + i * interval * 1000;
+            while (System.nanoTime() < scheduled) {
+                LockSupport.parkNanos(scheduled - System.nanoTime());
+            }
+            final long start = System.nanoTime();
+            final Object[] result = i % 2 == 0 ? application.searchEbookByNumber(ebook.getNumber())
+                    : application.searchEbookByAuthor(ebook.getAuthor());
+            final CompletableFuture<?> saved = (CompletableFuture<?>) result[0];
+            if (synchronous) {
+                saved.join();
+            }
+            latencies[i] = System.nanoTime() - start;
+            results.add(saved);
+        }
+        for (final CompletableFuture<?> saved : results) {   //O TEMPO TOTAL INCLUI AS GRAVAÇÕES PENDENTES
+            if (!(Boolean) saved.join()) {
+                throw new IllegalStateException("falha ao gravar resultado de busca");
+            }
+        }
+        latencies[queries] = System.nanoTime() - begin;
+        return latencies;
+    }
+
+}
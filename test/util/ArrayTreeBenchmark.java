@@ -0,0 +1,86 @@
+package util;
+
+import java.util.function.Supplier;
+
+/**
+ * Classe responsável por comparar a árvore baseada em vetores (ArrayTree) com a árvore baseada em nós (Tree)
+ * quanto a memória ocupada pela estrutura e ao tempo de inserção, busca e remoção de chaves aleatórias. Todas
+ * as chaves recebem o mesmo elemento, de modo que a memória medida é apenas a da estrutura.
+ * Uso: java -Xmx4g util.ArrayTreeBenchmark [tamanhos...] (padrão: 1 e 5 milhões de chaves).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class ArrayTreeBenchmark {
+    private static final Object ELEMENT = new Object();
+
+    /**
+     * Método principal responsável por executar a comparação.
+     * @param args Refere-se aos tamanhos das árvores.
+     */
+    public static void main(final String[] args) {
+        for (int i = 0; i < 3; i++) {                       //AQUECIMENTO DO COMPILADOR
+            run(Tree::new, 200_000, false);
+            run(ArrayTree::new, 200_000, false);
+        }
+        Benchmark.print("%10s %-11s %12s %14s %12s %12s", "chaves", "arvore", "bytes/chave", "insercao ns/op",
+                "busca ns/op", "remocao ns/op");
+        for (final int size : Benchmark.sizes(args, 1_000_000, 5_000_000)) {
+            print("Tree", size, run(Tree::new, size, true));
+            print("ArrayTree", size, run(ArrayTree::new, size, true));
+            print("ArrayTree*", size, run(() -> new ArrayTree<>(size), size, true));
+        }
+        System.out.println("* com capacidade inicial igual a quantidade de chaves, sem folga de crescimento dos vetores");
+    }
+
+    /**
+     * Método responsável por imprimir o resultado de determinada árvore.
+     * @param name      Refere-se ao nome da árvore.
+     * @param size      Refere-se a quantidade de chaves.
+     * @param result    Refere-se a memória e aos tempos medidos.
+     */
+    private static void print(final String name, final int size, final double[] result) {
+        Benchmark.print("%10d %-11s %12.1f %14.1f %12.1f %12.1f", size, name, result[0], result[1], result[2],
+                result[3]);
+    }
+
+    /**
+     * Método responsável por construir, consultar e esvaziar determinada árvore.
+     * @param factory       Refere-se a função que cria a árvore.
+     * @param size          Refere-se a quantidade de chaves.
+     * @param measureMemory Refere-se ao indicador de que a memória deve ser medida.
+     * @return              Retorna bytes por chave e tempos médios de inserção, busca e remoção.
+     */
+    private static double[] run(final Supplier<KeyedTree<Object>> factory, final int size, final boolean measureMemory) {
+        final int[] insertKeys = Benchmark.shuffledKeys(size, 1);
+        final int[] searchKeys = Benchmark.shuffledKeys(size, 2);
+        final long before = measureMemory ? Benchmark.usedMemory() : 0;
+        final KeyedTree<Object> tree = factory.get();
+        final long insertTime = Benchmark.time(() -> {
+            for (final int key : insertKeys) {
+                tree.insert(key, ELEMENT);
+            }
+        });
+        final long memory = measureMemory ? Benchmark.usedMemory() - before : 0;
+        final int[] found = new int[1];
+        final long searchTime = Benchmark.time(() -> {
+            for (final int key : searchKeys) {
+                if (tree.search(key) != null) {
+                    found[0]++;
+                }
+            }
+        });
+        if (found[0] != size) {
+            throw new IllegalStateException("chaves não encontradas: " + (size - found[0]));
+        }
+        final long removeTime = Benchmark.time(() -> {
+            for (final int key : insertKeys) {
+                tree.remove(key);
+            }
+        });
+        if (!tree.isEmpty()) {
+            throw new IllegalStateException("árvore não ficou vazia após remoções");
+        }
+        return new double[] {(double) memory / size, (double) insertTime / size, (double) searchTime / size,
+            (double) removeTime / size};
+    }
+
+}
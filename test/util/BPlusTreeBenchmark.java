@@ -0,0 +1,106 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Classe responsável por comparar a árvore B+ (BPlusTree) com a árvore AVL (Tree) em cargas completas
+ * (bulkLoad a partir de chaves ordenadas), buscas pontuais aleatórias, varreduras de intervalos curtos
+ * (subRange) e varreduras completas em ordem de chave.
+ * Uso: java -Xmx4g util.BPlusTreeBenchmark [tamanhos...] (padrão: 1 e 5 milhões de chaves).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class BPlusTreeBenchmark {
+    private static final int RANGES = 20_000;
+    private static final int RANGE_LENGTH = 100;
+
+    /**
+     * Método principal responsável por executar a comparação.
+     * @param args Refere-se aos tamanhos das árvores.
+     */
+    public static void main(final String[] args) {
+        for (int i = 0; i < 3; i++) {                       //AQUECIMENTO DO COMPILADOR
+            run(Tree::new, elements(200_000));
+            run(BPlusTree::new, elements(200_000));
+        }
+        Benchmark.print("%10s %-10s %12s %12s %16s %16s", "chaves", "arvore", "carga ms", "busca ns/op",
+                "intervalo ns/el", "completa ns/el");
+        for (final int size : Benchmark.sizes(args, 1_000_000, 5_000_000)) {
+            final List<Integer> elements = elements(size);
+            print("Tree", size, run(Tree::new, elements));
+            print("BPlusTree", size, run(BPlusTree::new, elements));
+        }
+    }
+
+    /**
+     * Método responsável por retornar os elementos de zero até determinada quantidade, em ordem crescente.
+     * @param size  Refere-se a quantidade de elementos.
+     * @return      Retorna elementos, cada qual igual a sua própria chave.
+     */
+    private static List<Integer> elements(final int size) {
+        final List<Integer> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+        return elements;
+    }
+
+    /**
+     * Método responsável por imprimir o resultado de determinada árvore.
+     * @param name      Refere-se ao nome da árvore.
+     * @param size      Refere-se a quantidade de chaves.
+     * @param result    Refere-se aos tempos medidos.
+     */
+    private static void print(final String name, final int size, final double[] result) {
+        Benchmark.print("%10d %-10s %12.1f %12.1f %16.2f %16.2f", size, name, result[0], result[1], result[2],
+                result[3]);
+    }
+
+    /**
+     * Método responsável por carregar e consultar determinada árvore.
+     * @param factory   Refere-se a função que cria a árvore.
+     * @param elements  Refere-se aos elementos em ordem crescente de chave.
+     * @return          Retorna tempo de carga (ms) e tempos médios de busca, de intervalo e de varredura completa.
+     */
+    private static double[] run(final Supplier<KeyedTree<Integer>> factory, final List<Integer> elements) {
+        final int size = elements.size();
+        final KeyedTree<Integer> tree = factory.get();
+        final long loadTime = Benchmark.time(() -> tree.bulkLoad(elements, Integer::intValue));
+        final int[] searchKeys = Benchmark.shuffledKeys(size, 2);
+        final long[] checksum = new long[1];
+        final long searchTime = Benchmark.time(() -> {
+            for (final int key : searchKeys) {
+                checksum[0] += tree.search(key);
+            }
+        });
+        final Random random = new Random(3);
+        final int[] starts = new int[RANGES];
+        for (int i = 0; i < RANGES; i++) {
+            starts[i] = random.nextInt(size - RANGE_LENGTH);
+        }
+        final long rangeTime = Benchmark.time(() -> {
+            for (final int start : starts) {
+                for (final Integer element : tree.subRange(start, start + RANGE_LENGTH - 1)) {
+                    checksum[0] += element;
+                }
+            }
+        });
+        final long scanTime = Benchmark.time(() -> {
+            for (final Integer element : tree) {
+                checksum[0] += element;
+            }
+        });
+        long expected = (long) size * (size - 1);                //BUSCAS E VARREDURA COMPLETA
+        for (final int start : starts) {
+            expected += (long) RANGE_LENGTH * start + (long) RANGE_LENGTH * (RANGE_LENGTH - 1) / 2;
+        }
+        if (checksum[0] != expected || tree.size() != size) {
+            throw new IllegalStateException("resultado divergente: " + checksum[0] + " != " + expected);
+        }
+        return new double[] {loadTime / 1e6, (double) searchTime / size,
+            (double) rangeTime / ((long) RANGES * RANGE_LENGTH), (double) scanTime / size};
+    }
+
+}
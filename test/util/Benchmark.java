@@ -0,0 +1,133 @@
+package util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Classe responsável por reunir utilitários comuns aos testes de desempenho: geração de chaves, medição de
+ * tempo e formatação dos resultados. Os testes de desempenho são classes executáveis (com método principal),
+ * cujos tamanhos podem ser alterados por meio de seus argumentos.
+ * @author Everton Bruno Silva dos Santos
+ */
+final class Benchmark {
+
+    /**
+     * Construtor privado, pois a classe só possui métodos estáticos.
+     */
+    private Benchmark() {
+    }
+
+    /**
+     * Método responsável por retornar as chaves de zero até determinada quantidade, em ordem crescente.
+     * @param count Refere-se a quantidade de chaves.
+     * @return      Retorna chaves ordenadas.
+     */
+    static int[] sortedKeys(final int count) {
+        final int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = i;
+        }
+        return keys;
+    }
+
+    /**
+     * Método responsável por retornar as chaves de zero até determinada quantidade, embaralhadas de forma
+     * reproduzível.
+     * @param count Refere-se a quantidade de chaves.
+     * @param seed  Refere-se a semente do embaralhamento.
+     * @return      Retorna chaves embaralhadas.
+     */
+    static int[] shuffledKeys(final int count, final long seed) {
+        final int[] keys = sortedKeys(count);
+        final Random random = new Random(seed);
+        for (int i = count - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        return keys;
+    }
+
+    /**
+     * Método responsável por gerar o catálogo repetindo as linhas de determinado arquivo com números distintos.
+     * @param source    Refere-se ao arquivo de origem das linhas.
+     * @param catalog   Refere-se ao catálogo gerado.
+     * @param bytes     Refere-se ao tamanho mínimo do catálogo.
+     * @return          Retorna quantidade de registros gerados.
+     * @throws IOException Caso ocorra falha de leitura ou de gravação.
+     */
+    static long catalog(final Path source, final Path catalog, final long bytes) throws IOException {
+        final List<String> lines = Files.readAllLines(source, StandardCharsets.UTF_8);
+        long written = 0;
+        int number = 0;
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(catalog), 1 << 20)) {
+            while (written < bytes) {
+                for (final String line : lines) {
+                    final byte[] record = (++number + line.substring(line.indexOf(';')) + '\n')
+                            .getBytes(StandardCharsets.UTF_8);
+                    output.write(record);
+                    written += record.length;
+                }
+            }
+        }
+        return number;
+    }
+
+    /**
+     * Método responsável por executar determinada tarefa e retornar o tempo gasto.
+     * @param task  Refere-se a tarefa.
+     * @return      Retorna tempo gasto em nanossegundos.
+     */
+    static long time(final Runnable task) {
+        final long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Método responsável por retornar a memória ocupada no momento, após solicitar a coleta de lixo.
+     * @return Retorna memória ocupada em bytes.
+     */
+    static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Método responsável por retornar os tamanhos informados como argumentos ou, caso não haja, os tamanhos padrão.
+     * @param args      Refere-se aos argumentos do método principal.
+     * @param defaults  Refere-se aos tamanhos padrão.
+     * @return          Retorna tamanhos.
+     */
+    static int[] sizes(final String[] args, final int... defaults) {
+        if (args.length == 0) {
+            return defaults;
+        }
+        final int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i].replace("_", ""));
+        }
+        return sizes;
+    }
+
+    /**
+     * Método responsável por imprimir determinada linha de resultado formatada.
+     * @param format    Refere-se ao formato da linha.
+     * @param values    Refere-se aos valores da linha.
+     */
+    static void print(final String format, final Object... values) {
+        System.out.println(String.format(Locale.ROOT, format, values));
+    }
+
+}
@@ -0,0 +1,135 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import model.Ebook;
+
+/**
+ * Classe responsável por comparar a vazão da gravação e da carga do catálogo sem compressão e nos formatos
+ * gzip e deflate. Nos formatos comprimidos, a carga pelo EbookTreeStream (descompressão em estágio próprio)
+ * é comparada a conversão com a descompressão na mesma linha de execução, sem estágio intermediário. As
+ * vazões, as melhores de REPETITIONS medições, são calculadas sobre o tamanho descomprimido do catálogo.
+ * Uso: java -Xmx4g util.CompressionBenchmark [megabytes] [base.csv] (padrão: 128 MB).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class CompressionBenchmark {
+    private static final int REPETITIONS = 3;
+
+    /**
+     * Método principal responsável por executar a comparação.
+     * @param args Refere-se ao tamanho do catálogo em megabytes e ao caminho de base.csv.
+     */
+    public static void main(final String[] args) throws IOException {
+        final long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 128;
+        final Path source = Paths.get(args.length > 1 ? args[1] : "base.csv");
+        final Path directory = Files.createTempDirectory("compression");
+        final Path plain = directory.resolve("catalog.csv");
+        final long records = Benchmark.catalog(source, plain, megabytes << 20);
+        final double size = Files.size(plain) / 1048576.0;
+        final EbookTreeStream catalog = new EbookTreeStream();
+        if (!catalog.loadFromFile(plain.toString())) {
+            throw new IllegalStateException("falha ao carregar o catálogo gerado");
+        }
+        for (final Compression compression : Compression.values()) {       //AQUECIMENTO DO COMPILADOR
+            final Path file = directory.resolve("warmup.csv" + compression.getExtension());
+            catalog.saveFromFile(file.toString());
+            new EbookTreeStream().loadFromFile(file.toString());
+            parse(file, compression);
+            Files.delete(file);
+        }
+        Benchmark.print("catálogo: %.1f MB descomprimidos, %d registros, processadores: %d", size, records,
+                Runtime.getRuntime().availableProcessors());
+        Benchmark.print("%-8s %8s %7s %14s %11s %15s %15s", "formato", "MB", "razao", "gravacao MB/s",
+                "carga MB/s", "conv. direta", "conv. estagio");
+        for (final Compression compression : Compression.values()) {
+            final Path file = directory.resolve("catalog.out.csv" + compression.getExtension());
+            long saveTime = Long.MAX_VALUE;
+            long loadTime = Long.MAX_VALUE;
+            long parseTime = Long.MAX_VALUE;
+            long pipelinedTime = Long.MAX_VALUE;
+            for (int i = 0; i < REPETITIONS; i++) {
+                saveTime = Math.min(saveTime, Benchmark.time(() -> catalog.saveFromFile(file.toString())));
+                final EbookTreeStream loaded = new EbookTreeStream();
+                loadTime = Math.min(loadTime, Benchmark.time(() -> loaded.loadFromFile(file.toString())));
+                if (loaded.size() != records) {
+                    throw new IllegalStateException(compression + ": " + loaded.size() + " registros, esperados "
+                            + records);
+                }
+                long start = System.nanoTime();
+                final long parsed = parse(file, compression);
+                parseTime = Math.min(parseTime, System.nanoTime() - start);
+                start = System.nanoTime();
+                final long pipelined = compression == Compression.NONE ? parsed : parsePipelined(file, compression);
+                pipelinedTime = Math.min(pipelinedTime, System.nanoTime() - start);
+                if (parsed != records || pipelined != records) {
+                    throw new IllegalStateException(compression + ": conversão divergente");
+                }
+            }
+            final double compressed = Files.size(file) / 1048576.0;
+            Benchmark.print("%-8s %8.1f %6.2fx %14.1f %11.1f %15.1f %15s", compression, compressed,
+                    size / compressed, size / (saveTime / 1e9), size / (loadTime / 1e9), size / (parseTime / 1e9),
+                    compression == Compression.NONE ? "-" : String.format(Locale.ROOT, "%.1f",
+                    size / (pipelinedTime / 1e9)));
+            Files.delete(file);
+        }
+        System.out.println("conv. direta/estagio: MB/s da conversão com a descompressão na mesma linha de execução"
+                + " / em estágio próprio (PipelinedInputChannel)");
+        Files.delete(plain);
+        Files.delete(directory);
+    }
+
+    /**
+     * Método responsável por converter determinado arquivo com a descompressão na mesma linha de execução.
+     * @param file          Refere-se ao arquivo.
+     * @param compression   Refere-se ao formato de compressão do arquivo.
+     * @return              Retorna quantidade de registros convertidos.
+     * @throws IOException  Caso ocorra falha de leitura.
+     */
+    private static long parse(final Path file, final Compression compression) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (compression == Compression.NONE) {
+                return count(new EbookParser(channel));
+            }
+            try (InputStream input = compression.decompress(Channels.newInputStream(channel))) {
+                return count(new EbookParser(Channels.newChannel(input)));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por converter determinado arquivo comprimido com a descompressão em estágio próprio.
+     * @param file          Refere-se ao arquivo.
+     * @param compression   Refere-se ao formato de compressão do arquivo.
+     * @return              Retorna quantidade de registros convertidos.
+     * @throws IOException  Caso ocorra falha de leitura.
+     */
+    private static long parsePipelined(final Path file, final Compression compression) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                PipelinedInputChannel input = new PipelinedInputChannel(
+                        compression.decompress(Channels.newInputStream(channel)))) {
+            return count(new EbookParser(input));
+        }
+    }
+
+    /**
+     * Método responsável por contar os registros convertidos por determinado conversor.
+     * @param parser        Refere-se ao conversor.
+     * @return              Retorna quantidade de registros convertidos.
+     * @throws IOException  Caso ocorra falha de leitura.
+     */
+    private static long count(final EbookParser parser) throws IOException {
+        long count = 0;
+        for (Ebook ebook = parser.next(); ebook != null; ebook = parser.next()) {
+            count++;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,147 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import model.Ebook;
+
+/**
+ * Classe responsável por medir a vazão da conversão do catálogo: a leitura original por linhas de texto
+ * (BufferedReader e String.split), o conversor por bytes (EbookParser) e a carga completa na árvore
+ * (EbookTreeStream.loadFromFile), sequencial e em trechos paralelos. O catálogo é gerado a partir das
+ * linhas de base.csv, repetidas com números distintos até atingir o tamanho desejado.
+ * Uso: java -Xmx4g util.EbookParserBenchmark [megabytes] [base.csv] (padrão: 256 MB).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class EbookParserBenchmark {
+    private static final int REPETITIONS = 3;
+
+    /**
+     * Método principal responsável por executar a medição.
+     * @param args Refere-se ao tamanho do catálogo em megabytes e ao caminho de base.csv.
+     */
+    public static void main(final String[] args) throws IOException {
+        final long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 256;
+        final Path source = Paths.get(args.length > 1 ? args[1] : "base.csv");
+        final Path catalog = Files.createTempFile("catalog", ".csv");
+        catalog.toFile().deleteOnExit();
+        final long records = Benchmark.catalog(source, catalog, megabytes << 20);
+        final double size = Files.size(catalog) / 1048576.0;
+        Benchmark.print("catálogo: %.1f MB, %d registros, processadores: %d", size, records,
+                Runtime.getRuntime().availableProcessors());
+        Benchmark.print("%-36s %10s %10s %16s", "conversão", "ms", "MB/s", "bytes alocados/reg");
+        for (int i = 0; i < REPETITIONS; i++) {                 //A ÚLTIMA REPETIÇÃO JÁ ESTÁ AQUECIDA
+            final boolean last = i == REPETITIONS - 1;
+            measure("linhas de texto + String.split", size, records, last, () -> readLines(catalog));
+            measure("EbookParser (bytes)", size, records, last, () -> parse(catalog));
+        }
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        for (final int threads : parallelism == 1 ? new int[] {1} : new int[] {1, parallelism}) {
+            final EbookTreeStream stream = new EbookTreeStream();
+            final boolean[] loaded = new boolean[1];
+            final long time = Benchmark.time(() -> loaded[0] = stream.loadFromFile(catalog.toString(), threads));
+            if (!loaded[0] || stream.size() != records) {
+                throw new IllegalStateException("falha na carga completa");
+            }
+            Benchmark.print("%-36s %10.1f %10.1f", "carga completa (" + threads + " trecho(s))", time / 1e6,
+                    size / (time / 1e9));
+        }
+        Files.delete(catalog);
+    }
+
+    /**
+     * Método responsável por medir determinada conversão e imprimir o resultado.
+     * @param name      Refere-se ao nome da conversão.
+     * @param size      Refere-se ao tamanho do catálogo em megabytes.
+     * @param records   Refere-se a quantidade esperada de registros.
+     * @param print     Refere-se ao indicador de que o resultado deve ser impresso.
+     * @param task      Refere-se a conversão, que retorna a quantidade de registros convertidos.
+     */
+    private static void measure(final String name, final double size, final long records, final boolean print,
+            final Conversion task) throws IOException {
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        final long count = task.run();
+        final long time = System.nanoTime() - start;
+        final long allocated = allocatedBytes() - allocatedBefore;
+        if (count != records) {
+            throw new IllegalStateException(name + ": " + count + " registros, esperados " + records);
+        }
+        if (print) {
+            Benchmark.print("%-36s %10.1f %10.1f %16.1f", name, time / 1e6, size / (time / 1e9),
+                    (double) allocated / records);
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de bytes já alocados pela linha de execução atual.
+     * @return Retorna bytes alocados ou zero caso a máquina virtual não os informe.
+     */
+    private static long allocatedBytes() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Método responsável por converter o catálogo da forma original, por linhas de texto divididas duas vezes.
+     * @param catalog   Refere-se ao catálogo.
+     * @return          Retorna quantidade de registros convertidos.
+     */
+    private static long readLines(final Path catalog) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(catalog),
+                StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                final int key = Integer.parseInt(line.split(";")[0]);
+                final String[] data = line.split(";");
+                final Ebook ebook = new Ebook(Integer.parseInt(data[0]), data[1], data[2], data[3],
+                        Integer.parseInt(data[4]), data[5]);
+                if (ebook.getNumber() == key) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Método responsável por converter o catálogo por meio de EbookParser.
+     * @param catalog   Refere-se ao catálogo.
+     * @return          Retorna quantidade de registros convertidos.
+     */
+    private static long parse(final Path catalog) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(catalog, StandardOpenOption.READ)) {
+            final EbookParser parser = new EbookParser(channel);
+            for (Ebook ebook = parser.next(); ebook != null; ebook = parser.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Interface responsável por representar uma conversão que pode falhar com erro de leitura.
+     */
+    private interface Conversion {
+
+        /**
+         * Método responsável por executar a conversão.
+         * @return Retorna quantidade de registros convertidos.
+         * @throws IOException Caso ocorra falha de leitura.
+         */
+        long run() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Classe responsável por medir a vazão de N leitores concorrentes com um único escritor sobre a árvore
+ * persistente (PersistentTree), cujas leituras não utilizam travas, em comparação com uma árvore AVL comum
+ * (Tree) protegida por uma única trava. Para cada quantidade de leitores, os leitores buscam chaves aleatórias
+ * enquanto o escritor insere e remove chaves continuamente, durante DURATION milissegundos.
+ * Uso: java util.PersistentTreeBenchmark [quantidades de leitores...] (padrão: 1, 2, 4 e 8 leitores).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class PersistentTreeBenchmark {
+    private static final int KEYS = 1_000_000;
+    private static final long DURATION = 2000;
+    private static volatile long sink;
+
+    /**
+     * Método principal responsável por executar a medição.
+     * @param args Refere-se as quantidades de leitores.
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        final PersistentTree<Integer> persistentTree = new PersistentTree<>();
+        final Tree<Integer> lockedTree = new Tree<>();
+        final List<Integer> elements = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            elements.add(i);
+        }
+        persistentTree.bulkLoad(elements, Integer::intValue);
+        lockedTree.bulkLoad(elements, Integer::intValue);
+        final Object lock = new Object();
+        final IntFunction<Object> lockedRead = (key) -> {
+            synchronized (lock) {
+                return lockedTree.search(key);
+            }
+        };
+        final IntConsumer lockedWrite = (key) -> {
+            synchronized (lock) {
+                if (lockedTree.remove(key) == null) {
+                    lockedTree.insert(key, key);
+                }
+            }
+        };
+        final IntConsumer persistentWrite = (key) -> {
+            if (persistentTree.remove(key) == null) {
+                persistentTree.insert(key, key);
+            }
+        };
+        run(1, persistentTree::search, persistentWrite);       //AQUECIMENTO DO COMPILADOR
+        run(1, lockedRead, lockedWrite);
+        Benchmark.print("processadores: %d, chaves: %d, duração: %d ms", Runtime.getRuntime().availableProcessors(),
+                KEYS, DURATION);
+        Benchmark.print("%9s %-16s %16s %16s", "leitores", "arvore", "leituras Mop/s", "escritas Mop/s");
+        for (final int readers : Benchmark.sizes(args, 1, 2, 4, 8)) {
+            final double[] persistent = run(readers, persistentTree::search, persistentWrite);
+            Benchmark.print("%9d %-16s %16.2f %16.3f", readers, "PersistentTree", persistent[0], persistent[1]);
+            final double[] locked = run(readers, lockedRead, lockedWrite);
+            Benchmark.print("%9d %-16s %16.2f %16.3f", readers, "Tree com trava", locked[0], locked[1]);
+        }
+    }
+
+    /**
+     * Método responsável por executar determinada quantidade de leitores e um escritor simultaneamente.
+     * @param readers   Refere-se a quantidade de leitores.
+     * @param read      Refere-se a leitura de determinada chave.
+     * @param write     Refere-se a escrita de determinada chave.
+     * @return          Retorna vazão de leituras e de escritas, em milhões de operações por segundo.
+     */
+    private static double[] run(final int readers, final IntFunction<Object> read, final IntConsumer write)
+            throws InterruptedException {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final LongAdder reads = new LongAdder();
+        final LongAdder writes = new LongAdder();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            threads.add(new Thread(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                long found = 0;
+                while (running.get()) {
+                    if (read.apply(random.nextInt(KEYS)) != null) { //A CHAVE PODE TER SIDO REMOVIDA PELO ESCRITOR
+                        found++;
+                    }
+                    count++;
+                }
+                reads.add(count);
+                sink += found;                              //IMPEDE QUE AS BUSCAS SEJAM ELIMINADAS PELO COMPILADOR
+            }, "reader-" + i));
+        }
+        threads.add(new Thread(() -> {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            long count = 0;
+            while (running.get()) {
+                write.accept(random.nextInt(KEYS));
+                count++;
+            }
+            writes.add(count);
+        }, "writer"));
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        Thread.sleep(DURATION);
+        running.set(false);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        return new double[] {reads.sum() / (DURATION * 1e3), writes.sum() / (DURATION * 1e3)};
+    }
+
+}
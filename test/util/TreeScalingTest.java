@@ -0,0 +1,82 @@
+package util;
+
+/**
+ * Classe responsável por verificar que a inserção e a remoção na árvore AVL custam O(log n). As chaves são
+ * inseridas e depois removidas em árvores de tamanhos crescentes, tanto em ordem crescente (como na carga do
+ * catálogo) quanto em ordem aleatória. Caso o tempo por operação cresça mais de MAX_STEP_GROWTH vezes entre
+ * dois tamanhos consecutivos multiplicados por dez, o teste termina com falha: um custo proporcional ao
+ * tamanho da subárvore cresceria cerca de dez vezes, enquanto O(log n) cresce bem menos (o restante do
+ * crescimento na ordem aleatória deve-se as faltas de cache, que aumentam com o tamanho da árvore).
+ * Uso: java -Xmx4g util.TreeScalingTest [tamanhos...] (padrão: 10 mil a 10 milhões de chaves).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class TreeScalingTest {
+    private static final double MAX_STEP_GROWTH = 5.0;
+    private static final int REPETITIONS = 3;
+
+    /**
+     * Método principal responsável por executar o teste.
+     * @param args Refere-se aos tamanhos das árvores.
+     */
+    public static void main(final String[] args) {
+        final int[] sizes = Benchmark.sizes(args, 10_000, 100_000, 1_000_000, 10_000_000);
+        for (int i = 0; i < 5; i++) {                       //AQUECIMENTO DO COMPILADOR
+            run(100_000, false);
+            run(100_000, true);
+        }
+        boolean success = true;
+        for (final boolean shuffled : new boolean[] {false, true}) {
+            System.out.println(shuffled ? "ORDEM ALEATÓRIA" : "ORDEM CRESCENTE");
+            Benchmark.print("%12s %15s %15s %12s", "chaves", "insercao ns/op", "remocao ns/op", "crescimento");
+            double previous = 0;
+            for (final int size : sizes) {
+                double[] best = run(size, shuffled);
+                for (int i = 1; i < REPETITIONS && size <= 1_000_000; i++) {
+                    final double[] result = run(size, shuffled);
+                    best = new double[] {Math.min(best[0], result[0]), Math.min(best[1], result[1])};
+                }
+                final double current = Math.max(best[0], best[1]);
+                final double growth = previous == 0 ? 1 : current / previous;
+                Benchmark.print("%12d %15.1f %15.1f %11.2fx", size, best[0], best[1], growth);
+                success &= growth <= MAX_STEP_GROWTH;
+                previous = current;
+            }
+        }
+        if (!success) {
+            Benchmark.print("FALHA: o custo por operação cresceu mais de %.1fx entre tamanhos consecutivos",
+                    MAX_STEP_GROWTH);
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    /**
+     * Método responsável por inserir e depois remover determinada quantidade de chaves.
+     * @param size      Refere-se a quantidade de chaves.
+     * @param shuffled  Refere-se ao indicador de que as chaves devem estar em ordem aleatória.
+     * @return          Retorna tempo médio de inserção e de remoção, em nanossegundos por operação.
+     */
+    private static double[] run(final int size, final boolean shuffled) {
+        final int[] insertKeys = shuffled ? Benchmark.shuffledKeys(size, 1) : Benchmark.sortedKeys(size);
+        final int[] removeKeys = shuffled ? Benchmark.shuffledKeys(size, 2) : insertKeys;
+        final Tree<Integer> tree = new Tree<>();
+        final long insertTime = Benchmark.time(() -> {
+            for (final int key : insertKeys) {
+                tree.insert(key, key);
+            }
+        });
+        if (tree.size() != size) {
+            throw new IllegalStateException("quantidade inesperada após inserções: " + tree.size());
+        }
+        final long removeTime = Benchmark.time(() -> {
+            for (final int key : removeKeys) {
+                tree.remove(key);
+            }
+        });
+        if (!tree.isEmpty()) {
+            throw new IllegalStateException("árvore não ficou vazia após remoções");
+        }
+        return new double[] {(double) insertTime / size, (double) removeTime / size};
+    }
+
+}
@@ -0,0 +1,74 @@
+package util;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import model.Ebook;
+
+/**
+ * Classe responsável por comparar a vazão das varreduras completas da árvore AVL (tal como nas buscas por
+ * autor e por ano) em fluxo sequencial, em fluxo paralelo dividido por subárvores (TreeSpliterator) e em
+ * fluxo paralelo dividido em lotes a partir do iterador (divisor padrão de KeyedTree).
+ * Uso: java -Xmx4g util.TreeSpliteratorBenchmark [tamanhos...] (padrão: 1 e 4 milhões de ebooks).
+ * @author Everton Bruno Silva dos Santos
+ */
+public class TreeSpliteratorBenchmark {
+    private static final int REPETITIONS = 5;
+    private static final int YEARS = 120;
+
+    /**
+     * Método principal responsável por executar a comparação.
+     * @param args Refere-se aos tamanhos das árvores.
+     */
+    public static void main(final String[] args) {
+        Benchmark.print("processadores: %d, paralelismo do ForkJoinPool: %d",
+                Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool().getParallelism());
+        Benchmark.print("%10s %-34s %12s %14s", "ebooks", "varredura", "ms", "Mebooks/s");
+        for (final int size : Benchmark.sizes(args, 1_000_000, 4_000_000)) {
+            final Tree<Ebook> tree = new Tree<>();
+            for (final int key : Benchmark.shuffledKeys(size, 1)) {
+                tree.insert(key, new Ebook(key, "Title " + key, "Author " + (key % 5000), "Jan", 1900 + key % YEARS,
+                        "http://example.com/" + key));
+            }
+            final long expected = scan(tree.stream());
+            measure(size, "sequencial", tree::stream, expected);
+            measure(size, "paralela por subárvores", tree::parallelStream, expected);
+            measure(size, "paralela por lotes do iterador", () -> StreamSupport.stream(
+                    Spliterators.spliterator(tree.iterator(), tree.size(), Spliterator.ORDERED), true), expected);
+        }
+    }
+
+    /**
+     * Método responsável por medir a melhor de várias varreduras de determinado fluxo.
+     * @param size      Refere-se a quantidade de ebooks.
+     * @param name      Refere-se ao nome da varredura.
+     * @param streams   Refere-se a função que cria o fluxo a cada repetição.
+     * @param expected  Refere-se ao resultado esperado da varredura.
+     */
+    private static void measure(final int size, final String name, final Supplier<Stream<Ebook>> streams,
+            final long expected) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < REPETITIONS; i++) {
+            final long[] result = new long[1];
+            final long time = Benchmark.time(() -> result[0] = scan(streams.get()));
+            if (result[0] != expected) {
+                throw new IllegalStateException(name + ": resultado divergente " + result[0] + " != " + expected);
+            }
+            best = Math.min(best, time);
+        }
+        Benchmark.print("%10d %-34s %12.1f %14.2f", size, name, best / 1e6, size / (best / 1e3));
+    }
+
+    /**
+     * Método responsável por efetuar a varredura: conta os ebooks de determinado ano cujo autor termina em 7.
+     * @param stream    Refere-se ao fluxo de ebooks.
+     * @return          Retorna quantidade de ebooks encontrados.
+     */
+    private static long scan(final Stream<Ebook> stream) {
+        return stream.filter((ebook) -> ebook.getYear() == 1950 && ebook.getAuthor().endsWith("7")).count();
+    }
+
+}